@@ -0,0 +1,95 @@
+package com.company.productmanagement.benchmark;
+
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.entity.Role;
+import com.company.productmanagement.entity.User;
+import com.company.productmanagement.utils.JwtUtils;
+
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed inputs shared by all benchmarks, so runs on different
+ * machines and commits measure exactly the same work
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = "eW91cl9zdXBlcl9zZWNyZXRfa2V5X3doaWNoX2lzX2F0X2xlYXN0XzMyX2NoYXJzX2xvbmc=";
+    public static final long JWT_EXPIRATION = 86_400_000L;
+    public static final int PAGE_SIZE = 20;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 19, 10, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtUtils jwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpiration", JWT_EXPIRATION);
+        return jwtUtils;
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(1L)
+                .username("benchmark")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8Z5j8k1rYpZGSqF9bW2T5XK")
+                .email("benchmark@example.com")
+                .role(Role.USER)
+                .build();
+    }
+
+    public static Product product() {
+        return product(1);
+    }
+
+    public static Product product(int i) {
+        return Product.builder()
+                .id((long) i)
+                .name("Product " + i)
+                .description("Description of product " + i)
+                .price(new BigDecimal("1234.50").add(BigDecimal.valueOf(i)))
+                .quantity(i * 3)
+                .createdAt(CREATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+
+    public static ProductResponse productResponse() {
+        return productResponse(1);
+    }
+
+    public static ProductResponse productResponse(int i) {
+        Product product = product(i);
+        return new ProductResponse(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getQuantity(), product.getCreatedAt(), product.getUpdatedAt());
+    }
+
+    public static PageResponse<ProductResponse> page() {
+        List<ProductResponse> content = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(BenchmarkFixtures::productResponse)
+                .toList();
+        return PageResponse.of(new SliceImpl<>(content, PageRequest.of(0, PAGE_SIZE), true), null);
+    }
+
+    public static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.productmanagement.benchmark;
+
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.exception.ApiException;
+import com.company.productmanagement.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error path cost: building the exception and turning it into a localized error body,
+ * for a plain ResponseStatusException (stack trace, message lookup per call)
+ * and for the preallocated ApiError fast path
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ResponseStatusException notFound;
+    private RuntimeException unexpected;
+    private WebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(BenchmarkFixtures.messageSource(), new SimpleMeterRegistry(),
+                Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+        notFound = new ResponseStatusException(HttpStatus.NOT_FOUND, "pdm-1");
+        unexpected = new IllegalStateException("boom");
+        webRequest = new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> handleResponseStatusException() {
+        return handler.handleAllExceptions(notFound, Locale.ENGLISH, webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> handleUnexpectedException() {
+        return handler.handleAllExceptions(unexpected, Locale.ENGLISH, webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> throwAndHandleNotFound() {
+        return handler.handleAllExceptions(new ResponseStatusException(HttpStatus.NOT_FOUND, "pdm-1"), Locale.ENGLISH, webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> throwAndHandlePreallocatedNotFound() {
+        try {
+            throw ApiError.PRODUCT_NOT_FOUND.exception();
+        } catch (ApiException e) {
+            return handler.handleApiException(e, Locale.ENGLISH, webRequest);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.productmanagement.benchmark;
+
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson encoding of single products and pages in every format
+ * the product endpoints negotiate (JSON, CBOR, Smile)
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductSerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private ProductResponse product;
+    private PageResponse<ProductResponse> page;
+    private byte[] encodedProduct;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        product = BenchmarkFixtures.productResponse();
+        page = BenchmarkFixtures.page();
+        encodedProduct = mapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writeProduct() throws Exception {
+        return mapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public ProductResponse readProduct() throws Exception {
+        return mapper.readValue(encodedProduct, ProductResponse.class);
+    }
+}
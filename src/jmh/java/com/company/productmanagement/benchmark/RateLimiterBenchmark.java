@@ -0,0 +1,57 @@
+package com.company.productmanagement.benchmark;
+
+import com.company.productmanagement.ratelimit.RateLimitGroup;
+import com.company.productmanagement.ratelimit.RateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiter cost on the request path with 64 threads:
+ * all threads on one user's bucket (worst-case CAS contention)
+ * and each thread on its own bucket (lookup and striping cost).
+ * Quotas are large enough that every request is allowed
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private RateLimiter rateLimiter;
+    private RateLimitGroup group;
+
+    @State(Scope.Thread)
+    public static class Subject {
+        final String name = "user:bench-" + THREAD_IDS.incrementAndGet();
+    }
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(Duration.ofMinutes(10), 100_000, new SimpleMeterRegistry());
+        group = RateLimitGroup.of("products", new String[] { "/api/products/**" },
+                Integer.MAX_VALUE, Duration.ofNanos(Integer.MAX_VALUE), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public long sharedBucket() {
+        return rateLimiter.tryAcquire(group, "user:shared");
+    }
+
+    @Benchmark
+    public long bucketPerThread(Subject subject) {
+        return rateLimiter.tryAcquire(group, subject.name);
+    }
+}
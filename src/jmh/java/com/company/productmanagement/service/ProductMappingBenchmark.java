@@ -0,0 +1,39 @@
+package com.company.productmanagement.service;
+
+import com.company.productmanagement.benchmark.BenchmarkFixtures;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.entity.Product;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every product a read returns.
+ * Lives in the service package to reach the package-private mapper.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    private ProductService productService;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        productService = new ProductService(null, null, null, null, null, null, null);
+        product = BenchmarkFixtures.product();
+    }
+
+    @Benchmark
+    public ProductResponse mapToResponse() {
+        return productService.mapToResponse(product);
+    }
+}
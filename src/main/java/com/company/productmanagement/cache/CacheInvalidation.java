@@ -0,0 +1,35 @@
+package com.company.productmanagement.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helper for invalidating in-process caches from inside write transactions.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class CacheInvalidation {
+
+    private CacheInvalidation() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs an invalidation now and again once the surrounding transaction completes.
+     * The second run drops anything a concurrent reader cached from the pre-commit state.
+     * 
+     * @param invalidation invalidation to run
+     */
+    static void nowAndAfterCompletion(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
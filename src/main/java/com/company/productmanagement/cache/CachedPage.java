@@ -0,0 +1,14 @@
+package com.company.productmanagement.cache;
+
+/**
+ * Ready-to-write JSON encodings of one product list page
+ * 
+ * @param size number of products on the page
+ * @param json UTF-8 JSON bytes of the page envelope
+ * @param gzippedJson gzip-compressed JSON bytes, or null when not worth compressing
+ */
+public record CachedPage(
+        int size,
+        byte[] json,
+        byte[] gzippedJson
+) {}
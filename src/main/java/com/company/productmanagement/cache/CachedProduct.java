@@ -0,0 +1,16 @@
+package com.company.productmanagement.cache;
+
+import com.company.productmanagement.dto.product.ProductResponse;
+
+/**
+ * Product response together with its ready-to-write JSON encodings
+ * 
+ * @param product product response DTO
+ * @param json UTF-8 JSON bytes of the product
+ * @param gzippedJson gzip-compressed JSON bytes, or null when not worth compressing
+ */
+public record CachedProduct(
+        ProductResponse product,
+        byte[] json,
+        byte[] gzippedJson
+) {}
@@ -0,0 +1,37 @@
+package com.company.productmanagement.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counter for the product catalog as a whole.
+ * Bumped on every product write, so anything derived from list queries
+ * (aggregate ETags, cached pages) can be validated with a single read.
+ * Starts from the startup time so values are not reused across restarts.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Current catalog version
+     * 
+     * @return version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Bumps the version now and again once the surrounding transaction completes,
+     * so readers of the pre-commit state cannot keep the new version
+     */
+    public void bump() {
+        CacheInvalidation.nowAndAfterCompletion(version::incrementAndGet);
+    }
+}
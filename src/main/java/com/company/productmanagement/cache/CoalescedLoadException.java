@@ -0,0 +1,17 @@
+package com.company.productmanagement.cache;
+
+/**
+ * Failure of a load shared through {@link RequestCoalescer}, thrown to each waiting caller.
+ * Every waiter gets its own instance around the leader's exception, so suppressed
+ * exceptions or causes added by one caller never show up in another's.
+ * Error handlers answer it as they would answer its cause.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public class CoalescedLoadException extends RuntimeException {
+
+    CoalescedLoadException(Object key, Throwable cause) {
+        super("Shared load failed for " + key, cause);
+    }
+}
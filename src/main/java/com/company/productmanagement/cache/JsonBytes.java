@@ -0,0 +1,67 @@
+package com.company.productmanagement.cache;
+
+import com.company.productmanagement.jfr.ResponseSerializationEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes responses for the pre-serialized response caches.
+ * Serialization is recorded as a {@link ResponseSerializationEvent}
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class JsonBytes {
+
+    private JsonBytes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Serializes a value to UTF-8 JSON
+     * 
+     * @param objectMapper mapper configured like the HTTP message converters
+     * @param value value to serialize
+     * @return JSON bytes
+     */
+    static byte[] serialize(ObjectMapper objectMapper, Object value) {
+        ResponseSerializationEvent event = new ResponseSerializationEvent();
+        event.begin();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.valueType = value.getClass().getSimpleName();
+            event.mediaType = MediaType.APPLICATION_JSON_VALUE;
+            event.bytes = json.length;
+            event.commit();
+        }
+        return json;
+    }
+
+    /**
+     * Gzips bytes
+     * 
+     * @param bytes bytes to compress
+     * @return gzip-compressed bytes
+     */
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
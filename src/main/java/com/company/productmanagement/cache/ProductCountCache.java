@@ -0,0 +1,56 @@
+package com.company.productmanagement.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the total number of products so list pages that ask for a total
+ * do not run a COUNT(*) each time.
+ * Invalidated when products are created or deleted; the TTL bounds how stale
+ * the count can get when other instances write.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ProductCountCache {
+
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedCount count;
+
+    public ProductCountCache(@Value("${product-cache.count-ttl:30s}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns the cached count, loading it when missing, expired or invalidated
+     * 
+     * @param loader runs the actual count query
+     * @return total number of products
+     */
+    public long get(LongSupplier loader) {
+        CachedCount cached = count;
+        long currentGeneration = generation.get();
+        long now = System.nanoTime();
+        if (cached != null && cached.generation() == currentGeneration && now - cached.loadedAt() < ttlNanos) {
+            return cached.value();
+        }
+        long value = loader.getAsLong();
+        count = new CachedCount(value, now, currentGeneration);
+        return value;
+    }
+
+    /**
+     * Drops the cached count now and again once the surrounding transaction completes
+     */
+    public void invalidate() {
+        CacheInvalidation.nowAndAfterCompletion(generation::incrementAndGet);
+    }
+
+    private record CachedCount(long value, long loadedAt, long generation) {}
+}
@@ -0,0 +1,118 @@
+package com.company.productmanagement.cache;
+
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of pre-serialized product responses keyed by product ID.
+ * Each entry holds the DTO, its UTF-8 JSON bytes and optionally a gzipped copy,
+ * so hot products are written to the response without running Jackson again.
+ * Entries are weighed by their byte size and evicted on product update or delete.
+ * A generation counter, bumped by every eviction, keeps a load that raced with a write
+ * from caching the row it read before the write committed.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ProductJsonCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedProduct> cache;
+    private final boolean gzipEnabled;
+    private final long gzipMinBytes;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ProductJsonCache(
+            ObjectMapper objectMapper,
+            @Value("${product-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${product-cache.ttl:10m}") Duration ttl,
+            @Value("${product-cache.gzip:true}") boolean gzipEnabled,
+            @Value("${product-cache.gzip-min-size:512B}") DataSize gzipMinSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, CachedProduct entry) -> weigh(entry))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Looks up a cached product
+     * 
+     * @param id product ID
+     * @return cached product if present
+     */
+    public Optional<CachedProduct> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Current generation, read before the database load whose result may be cached
+     * 
+     * @return generation to pass to {@link #put(ProductResponse, long)}
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    /**
+     * Serializes a product and stores it, unless a product was evicted since the load started
+     * 
+     * @param product product response to cache
+     * @param generation {@link #generation()} read before the load
+     * @return cached entry with its encodings
+     */
+    public CachedProduct put(ProductResponse product, long generation) {
+        byte[] json = JsonBytes.serialize(objectMapper, product);
+        byte[] gzippedJson = gzipEnabled && json.length >= gzipMinBytes ? JsonBytes.gzip(json) : null;
+        CachedProduct entry = new CachedProduct(product, json, gzippedJson);
+        cache.put(product.id(), entry);
+        if (evictions.get() != generation) {
+            cache.invalidate(product.id());
+        }
+        return entry;
+    }
+
+    /**
+     * Evicts a product now and again once the surrounding transaction completes,
+     * so a concurrent read of the old row cannot re-populate the entry before commit
+     * 
+     * @param id product ID
+     */
+    public void evict(Long id) {
+        CacheInvalidation.nowAndAfterCompletion(() -> {
+            evictions.incrementAndGet();
+            cache.invalidate(id);
+        });
+    }
+
+    /**
+     * Exposes the underlying cache, e.g. for statistics
+     * 
+     * @return Caffeine cache
+     */
+    public Cache<Long, CachedProduct> getCache() {
+        return cache;
+    }
+
+    private static int weigh(CachedProduct entry) {
+        int gzipped = entry.gzippedJson() != null ? entry.gzippedJson().length : 0;
+        return ENTRY_OVERHEAD_BYTES + entry.json().length + gzipped;
+    }
+}
@@ -0,0 +1,96 @@
+package com.company.productmanagement.cache;
+
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache of serialized product list pages.
+ * List responses do not depend on who asks, so one entry serves every user.
+ * Keys are the bound query (page, size, sort, includeTotal), which normalizes
+ * parameter spelling and order, plus the {@link CatalogVersion}: a product write
+ * bumps the version and leaves every older page unreachable until it is evicted.
+ * Hit and miss counts are published as cache.gets{cache=product.pages}
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ProductPageCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<PageKey, CachedPage> cache;
+    private final boolean gzipEnabled;
+    private final long gzipMinBytes;
+
+    public ProductPageCache(
+            ObjectMapper objectMapper,
+            @Value("${product-cache.page-max-size:16MB}") DataSize maxSize,
+            @Value("${product-cache.page-ttl:5m}") Duration ttl,
+            @Value("${product-cache.gzip:true}") boolean gzipEnabled,
+            @Value("${product-cache.gzip-min-size:512B}") DataSize gzipMinSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((PageKey key, CachedPage entry) -> weigh(entry))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.pages");
+    }
+
+    /**
+     * Looks up a cached page
+     * 
+     * @param catalogVersion catalog version the page must have been loaded at
+     * @param pageable page request
+     * @param includeTotal whether the page carries a total
+     * @return cached page if present
+     */
+    public Optional<CachedPage> get(long catalogVersion, Pageable pageable, boolean includeTotal) {
+        return Optional.ofNullable(cache.getIfPresent(new PageKey(catalogVersion, pageable, includeTotal)));
+    }
+
+    /**
+     * Serializes a page and stores it
+     * 
+     * @param catalogVersion catalog version read before the page was loaded
+     * @param pageable page request
+     * @param includeTotal whether the page carries a total
+     * @param page loaded page
+     * @return cached entry with its encodings
+     */
+    public CachedPage put(long catalogVersion, Pageable pageable, boolean includeTotal,
+                          PageResponse<ProductResponse> page) {
+        byte[] json = JsonBytes.serialize(objectMapper, page);
+        byte[] gzippedJson = gzipEnabled && json.length >= gzipMinBytes ? JsonBytes.gzip(json) : null;
+        CachedPage entry = new CachedPage(page.content().size(), json, gzippedJson);
+        cache.put(new PageKey(catalogVersion, pageable, includeTotal), entry);
+        return entry;
+    }
+
+    private static int weigh(CachedPage entry) {
+        int gzipped = entry.gzippedJson() != null ? entry.gzippedJson().length : 0;
+        return ENTRY_OVERHEAD_BYTES + entry.json().length + gzipped;
+    }
+
+    private record PageKey(long catalogVersion, Pageable pageable, boolean includeTotal) {
+    }
+}
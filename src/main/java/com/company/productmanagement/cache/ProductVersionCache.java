@@ -0,0 +1,85 @@
+package com.company.productmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Map of product ID to its current version (last update timestamp).
+ * Entries are tiny, so far more products fit here than in the JSON cache,
+ * which lets conditional requests be answered without loading the row.
+ * Like {@link ProductJsonCache}, puts from a load that raced with an eviction are dropped,
+ * so a stale version can never answer 304 for a product that has changed.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ProductVersionCache {
+
+    private final Cache<Long, LocalDateTime> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ProductVersionCache(
+            @Value("${product-cache.versions.maximum-size:100000}") long maximumSize,
+            @Value("${product-cache.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Looks up a cached product version
+     * 
+     * @param id product ID
+     * @return last update timestamp if cached
+     */
+    public Optional<LocalDateTime> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Current generation, read before the database load whose result may be cached
+     * 
+     * @return generation to pass to {@link #put(Long, LocalDateTime, long)}
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    /**
+     * Records a product version, unless a product was evicted since the load started
+     * 
+     * @param id product ID
+     * @param version last update timestamp
+     * @param generation {@link #generation()} read before the load
+     */
+    public void put(Long id, LocalDateTime version, long generation) {
+        if (version != null) {
+            cache.put(id, version);
+            if (evictions.get() != generation) {
+                cache.invalidate(id);
+            }
+        }
+    }
+
+    /**
+     * Evicts a product version now and again once the surrounding transaction completes
+     * 
+     * @param id product ID
+     */
+    public void evict(Long id) {
+        CacheInvalidation.nowAndAfterCompletion(() -> {
+            evictions.incrementAndGet();
+            cache.invalidate(id);
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.productmanagement.cache;
+
+import com.company.productmanagement.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical loads.
+ * The first caller for a key runs the load, concurrent callers with the same key
+ * wait for and share its result instead of hitting the database themselves.
+ * A waiter that times out runs the load on its own rather than failing.
+ * A failed load is never rethrown to waiters as the same instance: an {@link ApiException}
+ * is recreated from its error, anything else is wrapped in a {@link CoalescedLoadException}.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public RequestCoalescer(
+            @Value("${request-coalescing.timeout:2s}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.leaders = counter(meterRegistry, "leader");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.timeouts = counter(meterRegistry, "timeout");
+        Gauge.builder("request.coalescing.in.flight", inFlight, Map::size)
+                .description("Loads currently shared between concurrent callers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the load for a key, or joins the one already in flight
+     * 
+     * @param key identifies identical loads, must implement equals and hashCode
+     * @param loader the load to run
+     * @param <T> result type
+     * @return the loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            return lead(key, created, loader);
+        }
+        coalesced.increment();
+        try {
+            return (T) existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            throw rethrow(key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+    }
+
+    private <T> T lead(Object key, CompletableFuture<Object> result, Supplier<T> loader) {
+        leaders.increment();
+        try {
+            T value = loader.get();
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    private static RuntimeException rethrow(Object key, Throwable cause) {
+        if (cause instanceof ApiException api) {
+            return api.getError().exception();
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CoalescedLoadException(key, cause);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("request.coalescing")
+                .description("Loads by whether the caller ran it, shared it or timed out waiting")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
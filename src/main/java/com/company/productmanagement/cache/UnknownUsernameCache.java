@@ -0,0 +1,91 @@
+package com.company.productmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived negative cache of usernames that do not exist.
+ * Lets stale tokens and login attempts for unknown users be answered without a query.
+ * A registration evicts its username, and a generation counter keeps a lookup that
+ * raced with the registration from caching its outdated "not found".
+ * Counts answered lookups under user.lookup.negative-hits
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class UnknownUsernameCache {
+
+    private final Cache<String, Boolean> cache;
+    private final AtomicLong registrations = new AtomicLong();
+    private final Counter hits;
+
+    public UnknownUsernameCache(
+            @Value("${user-cache.unknown.maximum-size:100000}") long maximumSize,
+            @Value("${user-cache.unknown.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = Counter.builder("user.lookup.negative-hits")
+                .description("Username lookups answered as unknown without a query")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a username is known not to exist
+     * 
+     * @param username username to check
+     * @return true if a recent lookup found no such user
+     */
+    public boolean isUnknown(String username) {
+        if (cache.getIfPresent(username) != null) {
+            hits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Current generation, read before the database lookup whose miss may be cached
+     * 
+     * @return generation to pass to {@link #putUnknown(String, long)}
+     */
+    public long generation() {
+        return registrations.get();
+    }
+
+    /**
+     * Records that a lookup found no such user, unless a registration happened since it started
+     * 
+     * @param username username that was not found
+     * @param generation {@link #generation()} read before the lookup
+     */
+    public void putUnknown(String username, long generation) {
+        cache.put(username, Boolean.TRUE);
+        if (registrations.get() != generation) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * Forgets that a username is unknown, now and once the registering transaction completes
+     * 
+     * @param username username being registered
+     */
+    public void evict(String username) {
+        CacheInvalidation.nowAndAfterCompletion(() -> {
+            registrations.incrementAndGet();
+            cache.invalidate(username);
+        });
+    }
+}
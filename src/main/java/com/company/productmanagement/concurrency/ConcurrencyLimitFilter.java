@@ -0,0 +1,150 @@
+package com.company.productmanagement.concurrency;
+
+import com.company.productmanagement.concurrency.ConcurrencyLimiter.Priority;
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds product requests beyond the adaptive concurrency limit with 503 and Retry-After,
+ * answered through {@link com.company.productmanagement.exception.GlobalExceptionHandler}.
+ * Runs in the security chain after authorization, so only admitted, authenticated requests
+ * take a slot. GET / HEAD and batch-get are interactive; writes and the NDJSON export are bulk.
+ * Only successful (2xx / 3xx) responses feed the latency baseline. An export holds its slot
+ * until the asynchronous response completes, and releases it without a latency sample.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final List<PathPattern> limited = patterns(ApiEndpointConstants.CONCURRENCY_LIMIT_ENDPOINTS);
+    private final List<PathPattern> interactive = patterns(ApiEndpointConstants.CONCURRENCY_LIMIT_INTERACTIVE_POSTS);
+    private final PathPattern export = PathPatternParser.defaultInstance.parse(ApiEndpointConstants.PRODUCT_STREAM);
+    private final ConcurrencyLimiter limiter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter,
+                                  @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                  @Value("${concurrency-limit.enabled:true}") boolean enabled) {
+        this.limiter = limiter;
+        this.exceptionResolver = exceptionResolver;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !matchesAny(limited, PathContainer.parsePath(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire(priorityOf(request))) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            exceptionResolver.resolveException(request, response, null, ApiError.OVERLOADED.exception());
+            return;
+        }
+        long start = System.nanoTime();
+        boolean async = false;
+        boolean sample = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            // errors and rejections say nothing about how long a normal request takes
+            sample = !async && response.getStatus() >= 200 && response.getStatus() < 400;
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else if (sample) {
+                limiter.release(System.nanoTime() - start);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private Priority priorityOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        String method = request.getMethod();
+        if (export.matches(path)) {
+            return Priority.BULK;
+        }
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || (HttpMethod.POST.matches(method) && matchesAny(interactive, path))) {
+            return Priority.INTERACTIVE;
+        }
+        return Priority.BULK;
+    }
+
+    /**
+     * Frees the slot of a streamed response once, however the response ends
+     */
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> patterns(String[] paths) {
+        return Arrays.stream(paths).map(PathPatternParser.defaultInstance::parse).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.company.productmanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive limit on requests in flight, shared by all callers.
+ * Interactive requests may use the whole limit; bulk requests (writes and exports) only
+ * {@code concurrency-limit.bulk-share} of it, so under load they are shed first and reads
+ * keep their latency. The limit itself moves with latency, see {@link GradientLimit}.
+ * Exposes concurrency.limit, concurrency.inflight and concurrency.rejected by priority.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    /**
+     * How eagerly a request is shed
+     */
+    public enum Priority {
+        INTERACTIVE,
+        BULK
+    }
+
+    private final GradientLimit limit;
+    private final double bulkShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimiter(
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${concurrency-limit.long-window:600}") int longWindow,
+            @Value("${concurrency-limit.bulk-share:0.5}") double bulkShare,
+            MeterRegistry meterRegistry
+    ) {
+        if (bulkShare <= 0 || bulkShare > 1) {
+            throw new IllegalArgumentException("Bulk share must be in (0, 1]");
+        }
+        this.limit = new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow);
+        this.bulkShare = bulkShare;
+        Gauge.builder("concurrency.limit", limit, GradientLimit::get)
+                .description("Current adaptive limit on product requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get)
+                .description("Product requests in flight")
+                .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, Counter.builder("concurrency.rejected")
+                    .description("Requests shed with 503 because the concurrency limit was reached")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Takes a slot if the limit for this priority allows it.
+     * Every successful call must be followed by {@link #release(long)} or {@link #releaseWithoutSample()}
+     * 
+     * @param priority priority of the request
+     * @return true if the request may run
+     */
+    public boolean tryAcquire(Priority priority) {
+        int current = limit.get();
+        int cap = priority == Priority.INTERACTIVE ? current : Math.max(1, (int) (current * bulkShare));
+        while (true) {
+            int running = inFlight.get();
+            if (running >= cap) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the request's latency to the limit
+     * 
+     * @param rttNanos time the request took
+     */
+    public void release(long rttNanos) {
+        limit.onSample(rttNanos, inFlight.getAndDecrement());
+    }
+
+    /**
+     * Frees a slot without a latency sample, for failed or asynchronous requests
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.productmanagement.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows observed latency (gradient algorithm).
+ * Compares a short-term average round-trip time with a long-term baseline: while they
+ * agree the limit grows by about its square root per sample, and once queueing makes
+ * the short-term average rise the limit shrinks in proportion. Samples taken while
+ * less than half the limit is in use say nothing about capacity and only update the averages.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class GradientLimit {
+
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final int longWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double limit;
+    private double shortRtt;
+    private double longRtt;
+    private volatile int currentLimit;
+
+    /**
+     * @param initialLimit limit before any sample
+     * @param minLimit lowest the limit can go
+     * @param maxLimit highest the limit can go
+     * @param smoothing weight of each new estimate, 0 to 1
+     * @param tolerance how far the short-term latency may exceed the baseline before the limit shrinks
+     * @param longWindow number of samples the baseline averages over
+     */
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (smoothing <= 0 || smoothing > 1 || tolerance < 1 || longWindow < SHORT_WINDOW) {
+            throw new IllegalArgumentException("Invalid smoothing, tolerance or window");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindow = longWindow;
+        this.limit = initialLimit;
+        this.currentLimit = initialLimit;
+    }
+
+    int get() {
+        return currentLimit;
+    }
+
+    /**
+     * Records the round-trip time of a completed request.
+     * Skipped when another thread is updating, so callers never wait on each other.
+     * 
+     * @param rttNanos time the request took
+     * @param inFlight requests in flight when it completed, itself included
+     */
+    void onSample(long rttNanos, int inFlight) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+                longRtt += (rttNanos - longRtt) / longWindow;
+            }
+            // latency recovered: let the baseline come down quickly so the limit can grow again
+            if (longRtt > 2 * shortRtt) {
+                longRtt *= 0.95;
+            }
+            if (inFlight < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+            double estimate = limit * gradient + Math.sqrt(limit);
+            limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimate * smoothing));
+            currentLimit = (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.productmanagement.config;
+
+import com.company.productmanagement.deadline.DeadlineQueryTimeoutListener;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC statement instrumentation.
+ * Wraps the application DataSource in a datasource-proxy that counts statements
+ * and their execution time per thread (read per HTTP request by {@link RequestQueryCountFilter})
+ * and logs statements running longer than {@code sql.slow-query-threshold}, with their bind values.
+ * The slow-query check runs on the proxy's own timer thread, so request threads never
+ * block on logging; replaces {@code spring.jpa.show-sql}. Statement timeouts
+ * follow the request deadline, see {@link DeadlineQueryTimeoutListener}.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    static final String DATA_SOURCE_NAME = "main";
+    private static final String SLOW_QUERY_LOGGER = "sql.slow-query";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        Duration slowQueryThreshold = environment.getProperty(
+                "sql.slow-query-threshold", Duration.class, Duration.ofMillis(200));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource)
+                        .countQuery()
+                        .listener(new DeadlineQueryTimeoutListener())
+                        .logSlowQueryBySlf4j(slowQueryThreshold.toMillis(), TimeUnit.MILLISECONDS,
+                                SLF4JLogLevel.WARN, SLOW_QUERY_LOGGER)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.productmanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration.
+ * Enables {@code @Timed} on Spring beans; repository, HTTP and Hibernate
+ * metrics are registered by Spring Boot itself.
+ * Exported at /actuator/prometheus
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.productmanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the JDBC statements issued while handling each HTTP request.
+ * Publishes {@code http.server.requests.queries} (statement count) and
+ * {@code http.server.requests.query.time} per route, and warns when a request
+ * runs more statements than {@code sql.request-query-budget}, which is
+ * usually an N+1 pattern or a redundant existence check.
+ * Runs before Spring Security so the principal lookup is counted too.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+
+    public RequestQueryCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${sql.request-query-budget:10}") int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(request, QueryCountHolder.getGrandTotal());
+            QueryCountHolder.clear();
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("JDBC statements executed per HTTP request")
+                .tags("method", request.getMethod(), "uri", route)
+                .register(meterRegistry)
+                .record(count.getTotal());
+        Timer.builder("http.server.requests.query.time")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tags("method", request.getMethod(), "uri", route)
+                .register(meterRegistry)
+                .record(count.getTime(), TimeUnit.MILLISECONDS);
+
+        if (count.getTotal() > queryBudget) {
+            log.warn("{} {} ran {} statements ({} select, {} insert, {} update, {} delete) in {} ms, budget is {}",
+                    request.getMethod(), route, count.getTotal(), count.getSelect(), count.getInsert(),
+                    count.getUpdate(), count.getDelete(), count.getTime(), queryBudget);
+        }
+    }
+}
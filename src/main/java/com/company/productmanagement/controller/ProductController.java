@@ -1,24 +1,47 @@
 package com.company.productmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.company.productmanagement.cache.CachedPage;
+import com.company.productmanagement.cache.CachedProduct;
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductBatchGetRequest;
+import com.company.productmanagement.dto.product.ProductBatchItem;
 import com.company.productmanagement.dto.product.ProductRequest;
 import com.company.productmanagement.dto.product.ProductResponse;
 import com.company.productmanagement.service.ProductService;
 import com.company.productmanagement.utils.ApiEndpointConstants;
+import com.company.productmanagement.utils.ApiMediaTypes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
 /**
  * REST controller for product management operations
@@ -34,6 +57,7 @@ import com.company.productmanagement.utils.ApiEndpointConstants;
 public class ProductController {
     
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
     
     /**
      * Create a new product
@@ -51,34 +75,144 @@ public class ProductController {
     
     /**
      * Get all products
+     * The total is only computed when requested, from a cached count.
+     * JSON is written from the cached bytes of the page, shared by all users, gzipped when the client
+     * accepts it; CBOR and Smile, when preferred by the Accept header, go through the message converters.
+     * Other media types are answered with 406.
+     * Carries an aggregate weak ETag built from the catalog version and the query,
+     * so an unchanged page is answered with 304 before any query runs
      * 
-     * @return list of all products
+     * @param page zero-based page number
+     * @param size page size
+     * @param sortBy property to sort by
+     * @param includeTotal whether to include the total number of products
+     * @param accept Accept request header
+     * @param acceptEncoding Accept-Encoding request header
+     * @param webRequest current request, for conditional request handling
+     * @return one page of products
      */
-    @GetMapping(ApiEndpointConstants.PRODUCT)
-    @Operation(summary = "Get all products with pagination", description = "Retrieves products from the system with pagination")
-    public ResponseEntity<Page<ProductResponse>> getAllProducts(
+    @GetMapping(value = ApiEndpointConstants.PRODUCT, produces = { MediaType.APPLICATION_JSON_VALUE,
+            ApiMediaTypes.APPLICATION_CBOR_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE })
+    @Operation(summary = "Get all products with pagination", description = "Retrieves products from the system with pagination, as JSON, CBOR or Smile")
+    public ResponseEntity<?> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sortBy
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
     ) {
+        varyByRepresentation(webRequest);
+        if (isPageNotModified(page, size, sortBy, includeTotal, webRequest)) {
+            return null;
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-        Page<ProductResponse> products = productService.getAllProducts(pageable);
-        return ResponseEntity.ok(products);
+        if (prefersBinary(accept)) {
+            PageResponse<ProductResponse> products = productService.getProductPage(pageable, includeTotal);
+            return ResponseEntity.ok(products);
+        }
+        CachedPage products = productService.getCachedProductPage(pageable, includeTotal);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (products.gzippedJson() != null && acceptsGzip(acceptEncoding)) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(products.gzippedJson());
+        }
+        return response.body(products.json());
+    }
+    
+    /**
+     * Stream all products as newline-delimited JSON
+     * Products are written as they are read, so the response starts immediately
+     * and a slow client throttles the underlying database cursor
+     * 
+     * @return streamed products, one JSON document per line
+     */
+    @GetMapping(value = ApiEndpointConstants.PRODUCT_STREAM, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all products", description = "Streams every product ordered by id as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = out -> productService.streamAllProducts(product -> writeLine(out, product));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
     /**
      * Get product by ID
+     * Writes the cached JSON bytes directly, gzipped when the client accepts it
+     * Also matches wildcard Accept headers so JSON stays the default over the binary encodings
+     * Answers If-None-Match / If-Modified-Since with 304 from the cached product version
+     * Varies by Accept and Accept-Encoding, since all representations of a version share one weak ETag
      * 
      * @param id product ID
-     * @return product response
+     * @param acceptEncoding Accept-Encoding request header
+     * @param webRequest current request, for conditional request handling
+     * @return product JSON
      */
-    @GetMapping(ApiEndpointConstants.PRODUCT_BY_ID)
+    @GetMapping(value = ApiEndpointConstants.PRODUCT_BY_ID, produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE })
     @Operation(summary = "Get product by ID", description = "Retrieves a specific product by its ID")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getProductById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        varyByRepresentation(webRequest);
+        boolean conditional = isConditional(webRequest);
+        if (conditional && isNotModified(id, webRequest)) {
+            return null;
+        }
+        CachedProduct product = productService.getCachedProductById(id);
+        if (!conditional) {
+            addValidators(id, product.product().updatedAt(), webRequest);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (product.gzippedJson() != null && acceptsGzip(acceptEncoding)) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(product.gzippedJson());
+        }
+        return response.body(product.json());
+    }
+    
+    /**
+     * Get product by ID in a binary encoding (CBOR or Smile)
+     * Selected through the Accept header, JSON stays the default
+     * 
+     * @param id product ID
+     * @param webRequest current request, for conditional request handling
+     * @return product response
+     */
+    @GetMapping(value = ApiEndpointConstants.PRODUCT_BY_ID,
+            produces = { ApiMediaTypes.APPLICATION_CBOR_VALUE, ApiMediaTypes.APPLICATION_SMILE_VALUE })
+    @Operation(summary = "Get product by ID (binary)", description = "Retrieves a specific product encoded as CBOR or Smile")
+    public ResponseEntity<ProductResponse> getProductByIdBinary(@PathVariable Long id, WebRequest webRequest) {
+        varyByRepresentation(webRequest);
+        boolean conditional = isConditional(webRequest);
+        if (conditional && isNotModified(id, webRequest)) {
+            return null;
+        }
         ProductResponse product = productService.getProductById(id);
+        if (!conditional) {
+            addValidators(id, product.updatedAt(), webRequest);
+        }
         return ResponseEntity.ok(product);
     }
     
+    /**
+     * Get many products by ID in one call
+     * 
+     * @param request product IDs to fetch
+     * @return one entry per requested ID in request order, with not-found markers
+     */
+    @PostMapping(ApiEndpointConstants.PRODUCT_BATCH_GET)
+    @Operation(summary = "Get products by IDs", description = "Retrieves up to 100 products by ID in request order, marking IDs that do not exist")
+    public ResponseEntity<List<ProductBatchItem>> getProductsByIds(@Valid @RequestBody ProductBatchGetRequest request) {
+        List<ProductBatchItem> products = productService.getProductsByIds(request.ids());
+        return ResponseEntity.ok(products);
+    }
+    
     /**
      * Update an existing product
      * 
@@ -110,4 +244,186 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
     
+    /**
+     * Whether the request carries a validator to check
+     * Plain requests skip the separate version lookup and take the version from the loaded product,
+     * so a cold GET costs a single query
+     * 
+     * @param webRequest current request
+     * @return true if If-None-Match or If-Modified-Since is present
+     */
+    private boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+    
+    /**
+     * Sets the ETag and Last-Modified headers from an already loaded product version
+     * 
+     * @param id product ID
+     * @param version last update timestamp, may be null
+     * @param webRequest current request
+     */
+    private void addValidators(Long id, LocalDateTime version, WebRequest webRequest) {
+        if (version != null) {
+            webRequest.checkNotModified(etag(id, version), lastModified(version));
+        }
+    }
+    
+    /**
+     * Checks the conditional request headers against the product version without loading the product
+     * Sets the ETag and Last-Modified headers, and the 304 status when the client copy is current
+     * 
+     * @param id product ID
+     * @param webRequest current request
+     * @return true if the client copy is current
+     */
+    private boolean isNotModified(Long id, WebRequest webRequest) {
+        return productService.getProductVersion(id)
+                .map(version -> webRequest.checkNotModified(etag(id, version), lastModified(version)))
+                .orElse(false);
+    }
+    
+    /**
+     * Checks the conditional request headers against the aggregate ETag of a list page
+     * Sets the ETag header, and the 304 status when the client copy is current
+     * 
+     * @param page zero-based page number
+     * @param size page size
+     * @param sortBy property to sort by
+     * @param includeTotal whether the page carries a total
+     * @param webRequest current request
+     * @return true if the client copy is current
+     */
+    private boolean isPageNotModified(int page, int size, String sortBy, boolean includeTotal, WebRequest webRequest) {
+        String etag = "W/\"catalog-" + productService.getCatalogVersion()
+                + "-" + Integer.toHexString(Objects.hash(page, size, sortBy, includeTotal)) + "\"";
+        return webRequest.checkNotModified(etag);
+    }
+    
+    /**
+     * Whether the client prefers CBOR or Smile over JSON
+     * Takes the most preferred Accept entry that matches one of them; JSON wins ties and wildcards
+     * 
+     * @param accept Accept request header
+     * @return true if a binary encoding should be written
+     */
+    private boolean prefersBinary(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() <= 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)
+                    || mediaType.isCompatibleWith(ApiMediaTypes.APPLICATION_SMILE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Builds the weak ETag of a product version
+     * Weak because the JSON, gzip, CBOR and Smile bodies of one version all carry it.
+     * Uses millisecond precision so it does not depend on the column precision of the database;
+     * each update moves the version forward by at least a millisecond
+     * 
+     * @param id product ID
+     * @param version last update timestamp
+     * @return ETag value
+     */
+    private String etag(Long id, LocalDateTime version) {
+        return "W/\"" + id + "-" + Long.toString(lastModified(version), 36) + "\"";
+    }
+    
+    /**
+     * Marks the response, 304s included, as depending on the Accept and Accept-Encoding headers,
+     * so shared caches keep the representations of one resource apart
+     * 
+     * @param webRequest current request
+     */
+    private void varyByRepresentation(WebRequest webRequest) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.VARY,
+                    HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+    
+    /**
+     * Converts a product version to epoch milliseconds
+     * 
+     * @param version last update timestamp
+     * @return epoch milliseconds
+     */
+    private long lastModified(LocalDateTime version) {
+        return version.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    /**
+     * Checks whether the client accepts gzip content coding
+     * An explicit gzip entry wins over {@code *}; either only counts with a q-value above zero
+     * 
+     * @param acceptEncoding Accept-Encoding request header
+     * @return true if gzip is accepted
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = qValue(parameters);
+            } else if (name.equals("*")) {
+                any = qValue(parameters);
+            }
+        }
+        return gzip != null ? gzip > 0 : any != null && any > 0;
+    }
+    
+    /**
+     * Reads the q-value of one Accept-Encoding entry
+     * 
+     * @param parameters the entry split at ';', coding first
+     * @return q-value, 1 when absent and 0 when malformed
+     */
+    private double qValue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+    
+    /**
+     * Writes a product as a single NDJSON line
+     * 
+     * @param out response stream
+     * @param product product to write
+     */
+    private void writeLine(OutputStream out, ProductResponse product) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(product));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.company.productmanagement.deadline;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * JPA transaction manager that caps each new transaction's timeout at the time
+ * left until the request deadline. Hibernate applies the transaction timeout
+ * to every statement it runs, so queries stop once the client has given up.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        long remaining = RequestDeadline.remainingNanos();
+        if (remaining == Long.MAX_VALUE) {
+            return timeout;
+        }
+        if (remaining <= 0) {
+            throw new TransactionTimedOutException("Request deadline passed before the transaction started");
+        }
+        int seconds = RequestDeadline.toTimeoutSeconds(remaining);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+    }
+}
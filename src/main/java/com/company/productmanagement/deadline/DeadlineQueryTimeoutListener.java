@@ -0,0 +1,44 @@
+package com.company.productmanagement.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Sets the JDBC query timeout of each statement to the time left until the request deadline.
+ * Covers statements outside of a transaction too; a shorter timeout already set
+ * (for example by Hibernate from the transaction timeout) is kept.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+public class DeadlineQueryTimeoutListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long remaining = RequestDeadline.remainingNanos();
+        Statement statement = execInfo.getStatement();
+        if (remaining == Long.MAX_VALUE || statement == null) {
+            return;
+        }
+        int seconds = RequestDeadline.toTimeoutSeconds(remaining);
+        try {
+            int current = statement.getQueryTimeout();
+            if (current == 0 || seconds < current) {
+                statement.setQueryTimeout(seconds);
+            }
+        } catch (SQLException e) {
+            log.debug("Could not set query timeout of {}s", seconds, e);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+}
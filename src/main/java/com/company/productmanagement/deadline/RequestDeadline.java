@@ -0,0 +1,80 @@
+package com.company.productmanagement.deadline;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the current HTTP request or gRPC call.
+ * Set by {@link RequestDeadlineFilter} as a request attribute and read through
+ * {@link RequestContextHolder}; a gRPC call carries its client's deadline in the
+ * current {@link Context}. Code outside of either (async export, scheduled work)
+ * simply has no deadline.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public final class RequestDeadline {
+
+    /**
+     * Request header with the time in milliseconds the client is willing to wait
+     */
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final String ATTRIBUTE = RequestDeadline.class.getName();
+    private static final long NONE = Long.MAX_VALUE;
+
+    private RequestDeadline() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Starts the deadline of a request
+     * 
+     * @param request request being handled
+     * @param timeout time from now until the deadline
+     */
+    static void start(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(ATTRIBUTE, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Time left until the deadline of the current request or gRPC call, the earlier of the two
+     * 
+     * @return remaining nanoseconds, negative once passed, {@link Long#MAX_VALUE} without a deadline
+     */
+    public static long remainingNanos() {
+        long remaining = NONE;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long deadline) {
+            remaining = deadline - System.nanoTime();
+        }
+        Deadline callDeadline = Context.current().getDeadline();
+        if (callDeadline != null) {
+            remaining = Math.min(remaining, callDeadline.timeRemaining(TimeUnit.NANOSECONDS));
+        }
+        return remaining;
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Remaining time rounded up to whole seconds, the unit of transaction and JDBC timeouts
+     * 
+     * @param remainingNanos result of {@link #remainingNanos()}
+     * @return at least 1, since 0 means "no timeout" to JDBC
+     */
+    static int toTimeoutSeconds(long remainingNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long seconds = remainingNanos <= 0 ? 1 : (remainingNanos + second - 1) / second;
+        return (int) Math.min(Integer.MAX_VALUE, seconds);
+    }
+}
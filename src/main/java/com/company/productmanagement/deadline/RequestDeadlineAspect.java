@@ -0,0 +1,30 @@
+package com.company.productmanagement.deadline;
+
+import com.company.productmanagement.exception.ApiError;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Skips ProductService and AuthService calls whose request deadline has already passed.
+ * Ordered ahead of the transaction advice, so skipped work never takes a connection
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Aspect
+@Component
+// just inside ExposeInvocationInterceptor, which AspectJ advice needs in front of it
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestDeadlineAspect {
+
+    @Before("execution(public * com.company.productmanagement.service.ProductService.*(..))"
+            + " || execution(public * com.company.productmanagement.service.AuthService.*(..))")
+    public void skipIfExpired() {
+        if (RequestDeadline.isExpired()) {
+            throw ApiError.DEADLINE_EXCEEDED.exception();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.productmanagement.deadline;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+/**
+ * Replaces Spring Boot's JPA transaction manager with one bounded by the request deadline.
+ * Boot's customizers (spring.transaction.*) still apply
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class RequestDeadlineConfig {
+
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
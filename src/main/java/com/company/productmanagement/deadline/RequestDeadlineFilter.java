@@ -0,0 +1,83 @@
+package com.company.productmanagement.deadline;
+
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Starts the {@link RequestDeadline} of each API request.
+ * Uses the endpoint default ({@code request-deadline.auth-timeout} for auth,
+ * {@code request-deadline.default-timeout} otherwise), shortened by the client's
+ * {@value RequestDeadline#HEADER} header; a client can never extend it.
+ * The NDJSON export streams for as long as it takes and gets no deadline.
+ * Runs before Spring Security so the principal lookup is bounded too.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final PathPattern api = parse(ApiEndpointConstants.API_BASE + "/**");
+    private final PathPattern auth = parse(ApiEndpointConstants.AUTH + "/**");
+    private final PathPattern export = parse(ApiEndpointConstants.PRODUCT_STREAM);
+    private final Duration defaultTimeout;
+    private final Duration authTimeout;
+
+    public RequestDeadlineFilter(@Value("${request-deadline.default-timeout:10s}") Duration defaultTimeout,
+                                 @Value("${request-deadline.auth-timeout:5s}") Duration authTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.authTimeout = authTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return !api.matches(path) || export.matches(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration timeout = auth.matches(PathContainer.parsePath(request.getRequestURI())) ? authTimeout : defaultTimeout;
+        Duration requested = requestedTimeout(request);
+        if (requested != null && requested.compareTo(timeout) < 0) {
+            timeout = requested;
+        }
+        RequestDeadline.start(request, timeout);
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Timeout sent by the client, null if absent or malformed
+     */
+    private static Duration requestedTimeout(HttpServletRequest request) {
+        String header = request.getHeader(RequestDeadline.HEADER);
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0, Long.parseLong(header.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static PathPattern parse(String pattern) {
+        return PathPatternParser.defaultInstance.parse(pattern);
+    }
+}
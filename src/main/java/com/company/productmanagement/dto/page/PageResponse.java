@@ -0,0 +1,30 @@
+package com.company.productmanagement.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Compact envelope for one page of results
+ * 
+ * @param content items on this page
+ * @param page zero-based page number
+ * @param size requested page size
+ * @param hasNext whether a further page exists
+ * @param totalElements total number of items, only present when requested
+ * @param <T> item type
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements
+) {
+
+    public static <T> PageResponse<T> of(Slice<T> slice, Long totalElements) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements);
+    }
+}
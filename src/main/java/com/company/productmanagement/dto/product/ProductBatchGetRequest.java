@@ -0,0 +1,20 @@
+package com.company.productmanagement.dto.product;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for fetching many products by ID in one call
+ * 
+ * @param ids product IDs, results are returned in this order
+ */
+public record ProductBatchGetRequest(
+    @NotEmpty(message = "v-14")
+    @Size(max = ProductBatchGetRequest.MAX_IDS, message = "v-15")
+    List<@NotNull(message = "v-16") Long> ids
+) {
+    public static final int MAX_IDS = 100;
+}
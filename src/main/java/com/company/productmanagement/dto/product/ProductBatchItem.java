@@ -0,0 +1,26 @@
+package com.company.productmanagement.dto.product;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO for one entry of a batch get response
+ * 
+ * @param id requested product ID
+ * @param found whether the product exists
+ * @param product the product, absent when not found
+ */
+public record ProductBatchItem(
+    Long id,
+    boolean found,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    ProductResponse product
+) {
+
+    public static ProductBatchItem found(ProductResponse product) {
+        return new ProductBatchItem(product.id(), true, product);
+    }
+
+    public static ProductBatchItem notFound(Long id) {
+        return new ProductBatchItem(id, false, null);
+    }
+}
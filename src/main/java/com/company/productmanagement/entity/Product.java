@@ -2,19 +2,27 @@ package com.company.productmanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Product entity representing a product in the system.
  * Contains basic product information and audit timestamps.
+ * Cached in the second-level cache by id and by its (mutable) unique name.
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Entity
 @Table(name = "products")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
+@NaturalIdCache(region = "product-names")
 @Getter
 @Setter
 @Builder
@@ -26,6 +34,7 @@ public class Product {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 100)
     private String name;
     
@@ -47,12 +56,17 @@ public class Product {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        updatedAt = createdAt;
     }
     
+    /**
+     * Moves the update timestamp forward by at least one millisecond,
+     * so every update yields a new ETag even within the same millisecond
+     */
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        updatedAt = updatedAt != null && !now.isAfter(updatedAt) ? updatedAt.plus(1, ChronoUnit.MILLIS) : now;
     }
 }
\ No newline at end of file
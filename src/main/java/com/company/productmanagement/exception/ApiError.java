@@ -0,0 +1,51 @@
+package com.company.productmanagement.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Error responses with a fixed status and message code.
+ * Each throw gets a fresh, stackless {@link ApiException}, which costs a single small
+ * allocation, and {@link GlobalExceptionHandler} answers it with a body serialized at startup.
+ * Instances are not shared: a {@code Throwable} collects suppressed exceptions and a cause,
+ * which would otherwise pile up across requests.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Getter
+public enum ApiError {
+
+    PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "pdm-1"),
+    PRODUCT_NAME_TAKEN(HttpStatus.CONFLICT, "pdm-2"),
+    INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "pdm-3"),
+    SORT_NOT_SHARDABLE(HttpStatus.BAD_REQUEST, "v-19"),
+    PAGE_TOO_DEEP(HttpStatus.BAD_REQUEST, "v-20"),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "a-1"),
+    LOGIN_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "a-7"),
+    USERNAME_TAKEN(HttpStatus.CONFLICT, "a-2"),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "a-2"),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "a-5"),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "a-6"),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "g-1"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "g-4"),
+    OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "g-5"),
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "g-6");
+
+    private final HttpStatus status;
+    private final String code;
+
+    ApiError(HttpStatus status, String code) {
+        this.status = status;
+        this.code = code;
+    }
+
+    /**
+     * A new exception for this error, ready to be thrown
+     * 
+     * @return stackless exception
+     */
+    public ApiException exception() {
+        return new ApiException(this);
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.productmanagement.exception;
+
+import lombok.Getter;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Stackless {@link ResponseStatusException} for an {@link ApiError}.
+ * Created by {@link ApiError#exception()} for every occurrence; the stack trace of
+ * a not-found or conflict response carries no information, so it is never filled in.
+ * Still a {@code ResponseStatusException}, so status and reason read as before.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Getter
+public final class ApiException extends ResponseStatusException {
+
+    private final transient ApiError error;
+
+    ApiException(ApiError error) {
+        super(error.getStatus(), error.getCode());
+        this.error = error;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
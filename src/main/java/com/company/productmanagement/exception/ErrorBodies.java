@@ -0,0 +1,118 @@
+package com.company.productmanagement.exception;
+
+import com.company.productmanagement.dto.error.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized JSON bodies for {@link ApiError} responses.
+ * Messages are resolved once per language, the default and English ones at startup,
+ * and the {@link ErrorResponse} is serialized around a placeholder timestamp;
+ * a response only copies the two halves around the current time.
+ * Keyed by language, so the number of entries stays bounded whatever Accept-Language says.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+class ErrorBodies {
+
+    private static final Instant PLACEHOLDER = Instant.EPOCH;
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Map<ApiError, Template>> templatesByLanguage = new ConcurrentHashMap<>();
+
+    ErrorBodies(MessageSource messageSource, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        templates(Locale.getDefault());
+        templates(Locale.ENGLISH);
+    }
+
+    /**
+     * JSON body for an error, stamped with the current time
+     * 
+     * @param error error to describe
+     * @param locale request locale
+     * @return UTF-8 JSON bytes, same shape as {@link ErrorResponse}
+     */
+    byte[] body(ApiError error, Locale locale) {
+        return templates(locale).get(error).render(Instant.now());
+    }
+
+    /**
+     * Localized message of an error, as resolved at startup
+     * 
+     * @param error error to describe
+     * @param locale request locale
+     * @return message, null if the message source has none
+     */
+    String message(ApiError error, Locale locale) {
+        return templates(locale).get(error).message();
+    }
+
+    private Map<ApiError, Template> templates(Locale locale) {
+        Locale language = locale != null ? Locale.of(locale.getLanguage()) : Locale.getDefault();
+        return templatesByLanguage.computeIfAbsent(language.getLanguage(), key -> build(language));
+    }
+
+    private Map<ApiError, Template> build(Locale language) {
+        Map<ApiError, Template> templates = new EnumMap<>(ApiError.class);
+        for (ApiError error : ApiError.values()) {
+            String message = messageSource.getMessage(error.getCode(), null, null, language);
+            templates.put(error, Template.of(message, serialize(new ErrorResponse(message, error.getCode(), PLACEHOLDER))));
+        }
+        return templates;
+    }
+
+    private byte[] serialize(ErrorResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize error body for " + response.code(), e);
+        }
+    }
+
+    /**
+     * Serialized body split around the timestamp value
+     */
+    private record Template(String message, byte[] prefix, byte[] suffix) {
+
+        static Template of(String message, byte[] json) {
+            byte[] placeholder = PLACEHOLDER.toString().getBytes(StandardCharsets.US_ASCII);
+            int at = indexOf(json, placeholder);
+            if (at < 0) {
+                throw new IllegalStateException("Error body timestamps must be ISO-8601 strings (spring.jackson.serialization.write-dates-as-timestamps=false)");
+            }
+            return new Template(message, Arrays.copyOfRange(json, 0, at),
+                    Arrays.copyOfRange(json, at + placeholder.length, json.length));
+        }
+
+        byte[] render(Instant timestamp) {
+            byte[] time = timestamp.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] body = new byte[prefix.length + time.length + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(time, 0, body, prefix.length, time.length);
+            System.arraycopy(suffix, 0, body, prefix.length + time.length, suffix.length);
+            return body;
+        }
+
+        private static int indexOf(byte[] source, byte[] target) {
+            for (int i = 0; i <= source.length - target.length; i++) {
+                if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
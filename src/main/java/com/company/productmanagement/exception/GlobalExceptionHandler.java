@@ -2,47 +2,79 @@ package com.company.productmanagement.exception;
 
 import org.springframework.context.MessageSource;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.company.productmanagement.cache.CoalescedLoadException;
 import com.company.productmanagement.dto.error.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.springframework.security.access.AccessDeniedException;
+
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 
 /**
- * Global exception handler for centralized error handling
+ * Global exception handler for centralized error handling.
+ * {@link ApiException}s take a fast path: a pre-serialized body and a pre-registered
+ * counter, no message lookup. Everything else is mapped to a code and localized per request.
+ * Counts every error response under api.errors by code and status
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @RestControllerAdvice
-@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
     private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final ErrorBodies errorBodies;
+    private final Map<ApiError, Counter> errorCounters = new EnumMap<>(ApiError.class);
+
+    public GlobalExceptionHandler(MessageSource messageSource, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+        this.errorBodies = new ErrorBodies(messageSource, objectMapper);
+        for (ApiError error : ApiError.values()) {
+            errorCounters.put(error, errorCounter(error.getCode(), error.getStatus()));
+        }
+    }
+
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<?> handleApiException(ApiException ex, Locale locale, WebRequest webRequest) {
+        return respond(ex.getError(), locale, webRequest);
+    }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex, Locale locale) {
+    public ResponseEntity<?> handleAllExceptions(Exception ex, Locale locale, WebRequest webRequest) {
 
         String code;
         HttpStatus status;
 
-        if (ex instanceof ResponseStatusException rse) {
+        if (ex instanceof CoalescedLoadException && ex.getCause() instanceof Exception cause) {
+            return handleAllExceptions(cause, locale, webRequest);
+        }
+        else if (ex instanceof ResponseStatusException rse) {
             status = HttpStatus.valueOf(rse.getStatusCode().value());
             code = rse.getReason();
         } 
         else if(ex instanceof AccessDeniedException){
-            status = HttpStatus.FORBIDDEN;
-            code = "a-6";
+            return respond(ApiError.ACCESS_DENIED, locale, webRequest);
         }
         else if (ex instanceof MethodArgumentNotValidException manv) {
             status = HttpStatus.BAD_REQUEST;
@@ -55,26 +87,57 @@ public class GlobalExceptionHandler {
             code = msgKey;
         }
         else if (ex instanceof BadCredentialsException) {
-            status = HttpStatus.UNAUTHORIZED;
-            code = "a-1";
+            return respond(ApiError.INVALID_CREDENTIALS, locale, webRequest);
         }
         else if (ex instanceof AuthenticationException) {
-            status = HttpStatus.UNAUTHORIZED;
-            code = "a-5";
+            return respond(ApiError.UNAUTHORIZED, locale, webRequest);
+        }
+        else if (ex instanceof QueryTimeoutException || ex instanceof TransactionTimedOutException) {
+            // only request deadlines set timeouts
+            return respond(ApiError.DEADLINE_EXCEEDED, locale, webRequest);
         }
         else if (ex instanceof DataIntegrityViolationException) {
-            status = HttpStatus.CONFLICT;
-            code = "a-2";
+            return respond(ApiError.USERNAME_TAKEN, locale, webRequest);
         }
         else {
-            status = HttpStatus.INTERNAL_SERVER_ERROR;
-            code = "g-1";
+            return respond(ApiError.INTERNAL_ERROR, locale, webRequest);
         }
 
+        errorCounter(String.valueOf(code), status).increment();
         String message = messageSource.getMessage(code, null, locale);
 
         return ResponseEntity
                 .status(status)
                 .body(ErrorResponse.of(message, code));
     }
-}
\ No newline at end of file
+
+    /**
+     * Answers a fixed error, from the pre-serialized JSON body when the client accepts JSON
+     * 
+     * @param error error to answer
+     * @param locale request locale
+     * @param webRequest current request, for its Accept header
+     * @return error response
+     */
+    private ResponseEntity<?> respond(ApiError error, Locale locale, WebRequest webRequest) {
+        errorCounters.get(error).increment();
+        if (!acceptsJson(webRequest)) {
+            return ResponseEntity
+                    .status(error.getStatus())
+                    .body(ErrorResponse.of(errorBodies.message(error, locale), error.getCode()));
+        }
+        return ResponseEntity
+                .status(error.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodies.body(error, locale));
+    }
+
+    private boolean acceptsJson(WebRequest webRequest) {
+        String accept = webRequest != null ? webRequest.getHeader(HttpHeaders.ACCEPT) : null;
+        return accept == null || accept.contains("json") || accept.contains("*/*");
+    }
+
+    private Counter errorCounter(String code, HttpStatus status) {
+        return meterRegistry.counter("api.errors", "code", code, "status", String.valueOf(status.value()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.company.productmanagement.grpc;
+
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.jfr.PrincipalLookupEvent;
+import com.company.productmanagement.utils.JwtUtils;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates gRPC calls from their {@code authorization: Bearer <jwt>} metadata,
+ * the same way {@link com.company.productmanagement.security.JwtAuthenticationFilter}
+ * does for HTTP requests. Every product call needs a user, so calls without a valid
+ * token are closed with UNAUTHENTICATED before they reach the service.
+ * The authentication travels in the gRPC {@link Context}, which follows the call
+ * across threads, unlike the thread-bound SecurityContextHolder.
+ * Token parsing and the principal lookup are timed under the same meters as the filter.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtils jwtUtils;
+    private final UserDetailsService userDetailsService;
+    private final Timer parseTimer;
+    private final Timer principalLookupTimer;
+    private final Counter anonymous;
+    private final Counter authenticated;
+    private final Counter rejected;
+
+    public GrpcAuthInterceptor(JwtUtils jwtUtils, UserDetailsService userDetailsService, MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.userDetailsService = userDetailsService;
+        this.parseTimer = Timer.builder("auth.jwt.parse")
+                .description("Time to parse and verify the bearer token signature")
+                .register(meterRegistry);
+        this.principalLookupTimer = Timer.builder("auth.principal.lookup")
+                .description("Time to load the user named in the token")
+                .register(meterRegistry);
+        this.anonymous = calls(meterRegistry, "anonymous");
+        this.authenticated = calls(meterRegistry, "authenticated");
+        this.rejected = calls(meterRegistry, "rejected");
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("grpc.auth.calls")
+                .description("gRPC calls seen by the JWT interceptor, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The user of the current call
+     * 
+     * @return authentication, null outside an authenticated call
+     */
+    static Authentication currentAuthentication() {
+        return AUTHENTICATION.get();
+    }
+
+    /**
+     * Authenticates the call, or closes it with UNAUTHENTICATED
+     * 
+     * @param call server call
+     * @param headers request metadata
+     * @param next next handler
+     * @return listener of the authenticated call
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        final String authHeader = headers.get(AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            anonymous.increment();
+            return unauthenticated(call);
+        }
+        Authentication authentication = authenticate(authHeader.substring(BEARER.length()));
+        if (authentication == null) {
+            rejected.increment();
+            return unauthenticated(call);
+        }
+        authenticated.increment();
+        return Contexts.interceptCall(Context.current().withValue(AUTHENTICATION, authentication), call, headers, next);
+    }
+
+    /**
+     * Verifies the token and loads its user
+     * 
+     * @param jwt bearer token
+     * @return authentication, null if the token is invalid or its user is gone
+     */
+    private Authentication authenticate(String jwt) {
+        try {
+            final String username = parseTimer.record(() -> jwtUtils.extractUsername(jwt));
+            if (username == null) {
+                return null;
+            }
+            UserDetails userDetails = lookUpPrincipal(username);
+            if (!jwtUtils.isTokenValid(jwt, userDetails)) {
+                return null;
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+        } catch (Exception e) {
+            log.debug("Rejected gRPC bearer token: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the user named in the token, timed and recorded as a JFR event
+     * 
+     * @param username subject of the token
+     * @return user details
+     */
+    private UserDetails lookUpPrincipal(String username) {
+        PrincipalLookupEvent event = new PrincipalLookupEvent();
+        event.begin();
+        try {
+            UserDetails userDetails = principalLookupTimer.record(() -> userDetailsService.loadUserByUsername(username));
+            event.found = userDetails != null;
+            return userDetails;
+        } finally {
+            event.username = username;
+            event.commit();
+        }
+    }
+
+    private static <ReqT, RespT> ServerCall.Listener<ReqT> unauthenticated(ServerCall<ReqT, RespT> call) {
+        call.close(Status.UNAUTHENTICATED.withDescription(ApiError.UNAUTHORIZED.getCode()), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
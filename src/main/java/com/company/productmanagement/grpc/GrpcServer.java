@@ -0,0 +1,100 @@
+package com.company.productmanagement.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty gRPC server on its own port, next to the servlet container.
+ * Calls from one client share a single HTTP/2 connection, up to
+ * {@code grpc.max-concurrent-calls-per-connection} at a time, and each call runs
+ * on a virtual thread like the REST requests, so blocking service code is fine.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private final List<ServerServiceDefinition> services;
+    private final int port;
+    private final int maxConcurrentCallsPerConnection;
+    private final Duration shutdownGracePeriod;
+    private ExecutorService executor;
+    private Server server;
+
+    public GrpcServer(List<ServerServiceDefinition> services,
+                      @Value("${grpc.port:9090}") int port,
+                      @Value("${grpc.max-concurrent-calls-per-connection:200}") int maxConcurrentCallsPerConnection,
+                      @Value("${grpc.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+        this.services = services;
+        this.port = port;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection);
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    /**
+     * Stops taking calls and gives running ones the grace period to finish
+     */
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        executor.shutdown();
+        server = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the server is bound to, useful when grpc.port is 0
+     * 
+     * @return bound port, -1 while stopped
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getPort() : -1;
+    }
+}
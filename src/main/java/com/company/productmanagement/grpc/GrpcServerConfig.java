@@ -0,0 +1,31 @@
+package com.company.productmanagement.grpc;
+
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * gRPC services as they are served: each one behind the JWT interceptor.
+ * The network server and in-process test servers are built from these definitions,
+ * so both run the same interceptor chain.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class GrpcServerConfig {
+
+    /**
+     * Product catalog service, authenticated
+     * 
+     * @param productGrpcService service implementation
+     * @param grpcAuthInterceptor JWT interceptor
+     * @return service definition
+     */
+    @Bean
+    public ServerServiceDefinition productCatalogService(ProductGrpcService productGrpcService,
+                                                         GrpcAuthInterceptor grpcAuthInterceptor) {
+        return ServerInterceptors.intercept(productGrpcService, grpcAuthInterceptor);
+    }
+}
@@ -0,0 +1,83 @@
+package com.company.productmanagement.grpc;
+
+import com.company.productmanagement.cache.CoalescedLoadException;
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.exception.ApiException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Translates service exceptions into gRPC statuses, the counterpart of
+ * {@link com.company.productmanagement.exception.GlobalExceptionHandler}.
+ * The status description is the same error code the REST API puts in its body.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+final class GrpcStatuses {
+
+    private GrpcStatuses() {
+    }
+
+    /**
+     * Status for an exception thrown while serving a call
+     * 
+     * @param ex exception
+     * @return status to close the call with
+     */
+    static StatusRuntimeException toStatusException(Throwable ex) {
+        if (ex instanceof CoalescedLoadException && ex.getCause() != null) {
+            return toStatusException(ex.getCause());
+        }
+        if (ex instanceof StatusRuntimeException sre) {
+            return sre;
+        }
+        if (ex instanceof ApiException api) {
+            return forError(api.getError());
+        }
+        if (ex instanceof QueryTimeoutException || ex instanceof TransactionTimedOutException) {
+            return forError(ApiError.DEADLINE_EXCEEDED);
+        }
+        if (ex instanceof PropertyReferenceException) {
+            return invalidArgument("g-2");
+        }
+        log.error("gRPC call failed", ex);
+        return forError(ApiError.INTERNAL_ERROR);
+    }
+
+    /**
+     * Status for a fixed error, mapped from its HTTP status
+     * 
+     * @param error error
+     * @return status carrying the error code
+     */
+    static StatusRuntimeException forError(ApiError error) {
+        Status status = switch (error.getStatus()) {
+            case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+            case UNAUTHORIZED -> Status.UNAUTHENTICATED;
+            case FORBIDDEN -> Status.PERMISSION_DENIED;
+            case NOT_FOUND -> Status.NOT_FOUND;
+            case CONFLICT -> error == ApiError.INSUFFICIENT_STOCK ? Status.FAILED_PRECONDITION : Status.ALREADY_EXISTS;
+            case TOO_MANY_REQUESTS -> Status.RESOURCE_EXHAUSTED;
+            case SERVICE_UNAVAILABLE -> Status.UNAVAILABLE;
+            case GATEWAY_TIMEOUT -> Status.DEADLINE_EXCEEDED;
+            default -> Status.INTERNAL;
+        };
+        return status.withDescription(error.getCode()).asRuntimeException();
+    }
+
+    /**
+     * Status for a rejected request message
+     * 
+     * @param code validation message code
+     * @return INVALID_ARGUMENT status carrying the code
+     */
+    static StatusRuntimeException invalidArgument(String code) {
+        return Status.INVALID_ARGUMENT.withDescription(code).asRuntimeException();
+    }
+}
@@ -0,0 +1,200 @@
+package com.company.productmanagement.grpc;
+
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductBatchGetRequest;
+import com.company.productmanagement.dto.product.ProductBatchItem;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.entity.Role;
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.grpc.v1.AdjustStockRequest;
+import com.company.productmanagement.grpc.v1.BatchGetProductsRequest;
+import com.company.productmanagement.grpc.v1.BatchGetProductsResponse;
+import com.company.productmanagement.grpc.v1.ExportProductsRequest;
+import com.company.productmanagement.grpc.v1.GetProductRequest;
+import com.company.productmanagement.grpc.v1.ListProductsRequest;
+import com.company.productmanagement.grpc.v1.Product;
+import com.company.productmanagement.grpc.v1.ProductCatalogGrpc;
+import com.company.productmanagement.grpc.v1.ProductResult;
+import com.company.productmanagement.service.ProductService;
+import com.google.protobuf.Timestamp;
+import io.grpc.Context;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * gRPC front of {@link ProductService} for internal callers.
+ * Serves the same cached and coalesced reads as ProductController, without
+ * HTTP/1.1 connection churn or JSON; callers are authenticated by {@link GrpcAuthInterceptor}.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductGrpcService extends ProductCatalogGrpc.ProductCatalogImplBase {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final String DEFAULT_SORT = "id";
+    private static final String ADMIN_AUTHORITY = "ROLE_" + Role.ADMIN.name();
+
+    private final ProductService productService;
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<Product> responseObserver) {
+        unary(responseObserver, () -> toProto(productService.getProductById(request.getId())));
+    }
+
+    @Override
+    public void batchGetProducts(BatchGetProductsRequest request, StreamObserver<BatchGetProductsResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            if (request.getIdsCount() == 0) {
+                throw GrpcStatuses.invalidArgument("v-14");
+            }
+            if (request.getIdsCount() > ProductBatchGetRequest.MAX_IDS) {
+                throw GrpcStatuses.invalidArgument("v-15");
+            }
+            BatchGetProductsResponse.Builder response = BatchGetProductsResponse.newBuilder();
+            for (ProductBatchItem item : productService.getProductsByIds(request.getIdsList())) {
+                ProductResult.Builder result = ProductResult.newBuilder().setId(item.id());
+                if (item.found()) {
+                    result.setProduct(toProto(item.product()));
+                }
+                response.addResults(result);
+            }
+            return response.build();
+        });
+    }
+
+    /**
+     * Streams one page of products, shared with concurrent REST and gRPC requests for the same page.
+     * A size of 0 (unset) means the default page size
+     */
+    @Override
+    public void listProducts(ListProductsRequest request, StreamObserver<Product> responseObserver) {
+        if (request.getPage() < 0) {
+            responseObserver.onError(GrpcStatuses.invalidArgument("v-17"));
+            return;
+        }
+        if (request.getSize() < 0) {
+            responseObserver.onError(GrpcStatuses.invalidArgument("v-18"));
+            return;
+        }
+        try {
+            int size = request.getSize() > 0 ? request.getSize() : DEFAULT_PAGE_SIZE;
+            String sortBy = request.getSortBy().isEmpty() ? DEFAULT_SORT : request.getSortBy();
+            PageResponse<ProductResponse> page = productService.getProductPage(
+                    PageRequest.of(request.getPage(), size, Sort.by(sortBy)), false);
+            for (ProductResponse product : page.content()) {
+                responseObserver.onNext(toProto(product));
+            }
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    /**
+     * Streams the whole catalog ordered by id.
+     * Callbacks of one call run one after another, so the ready signal cannot arrive
+     * while the service method blocks; the export therefore runs on its own virtual thread
+     * and waits for the client before each product, keeping the database cursor
+     * no further ahead than the client has read.
+     */
+    @Override
+    public void exportProducts(ExportProductsRequest request, StreamObserver<Product> responseObserver) {
+        ServerCallStreamObserver<Product> observer = (ServerCallStreamObserver<Product>) responseObserver;
+        StreamReadiness readiness = new StreamReadiness(observer);
+        Thread.ofVirtual().name("grpc-export").start(Context.current().wrap(() -> {
+            try {
+                productService.streamAllProducts(product -> {
+                    readiness.awaitReady();
+                    observer.onNext(toProto(product));
+                });
+                observer.onCompleted();
+            } catch (RuntimeException e) {
+                if (!readiness.isCancelled()) {
+                    observer.onError(GrpcStatuses.toStatusException(e));
+                }
+            }
+        }));
+    }
+
+    @Override
+    public void adjustStock(AdjustStockRequest request, StreamObserver<Product> responseObserver) {
+        unary(responseObserver, () -> {
+            requireAdmin();
+            return toProto(productService.adjustStock(request.getId(), request.getDelta()));
+        });
+    }
+
+    /**
+     * Answers a unary call, translating exceptions into statuses
+     * 
+     * @param responseObserver call observer
+     * @param handler computes the response
+     */
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> handler) {
+        T response;
+        try {
+            response = handler.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Same rule as {@code @PreAuthorize("hasRole('ADMIN')")} on the REST writes
+     */
+    private static void requireAdmin() {
+        Authentication authentication = GrpcAuthInterceptor.currentAuthentication();
+        if (authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()))) {
+            throw ApiError.ACCESS_DENIED.exception();
+        }
+    }
+
+    /**
+     * Maps a product response to its protobuf message
+     * 
+     * @param product product response
+     * @return product message
+     */
+    private static Product toProto(ProductResponse product) {
+        Product.Builder message = Product.newBuilder()
+                .setId(product.id())
+                .setName(product.name())
+                .setPrice(product.price().toPlainString())
+                .setQuantity(product.quantity());
+        if (product.description() != null) {
+            message.setDescription(product.description());
+        }
+        if (product.createdAt() != null) {
+            message.setCreatedAt(toTimestamp(product.createdAt()));
+        }
+        if (product.updatedAt() != null) {
+            message.setUpdatedAt(toTimestamp(product.updatedAt()));
+        }
+        return message.build();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.productmanagement.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocks a producer thread until the client can take more of a server stream.
+ * gRPC buffers every message passed to onNext, so a producer that ignores
+ * readiness holds the whole response in memory when the client reads slowly.
+ * Must be created inside the service method, where the handlers can still be set.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class StreamReadiness {
+
+    private final ServerCallStreamObserver<?> observer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private volatile boolean cancelled;
+
+    StreamReadiness(ServerCallStreamObserver<?> observer) {
+        this.observer = observer;
+        observer.setOnReadyHandler(this::signal);
+        observer.setOnCancelHandler(() -> {
+            cancelled = true;
+            signal();
+        });
+    }
+
+    /**
+     * Waits until the transport accepts another message
+     * 
+     * @throws io.grpc.StatusRuntimeException CANCELLED once the client has gone away
+     */
+    void awaitReady() {
+        lock.lock();
+        try {
+            while (!cancelled && !observer.isReady()) {
+                changed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        } finally {
+            lock.unlock();
+        }
+        if (cancelled) {
+            throw Status.CANCELLED.withDescription("client cancelled the stream").asRuntimeException();
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.productmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one JWT signature check and claims parse in JwtUtils
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Name("productmanagement.JwtVerification")
+@Label("JWT Verification")
+@Category({ "Product Management", "Security" })
+@Description("Parsing and signature verification of a bearer token")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Subject")
+    public String subject;
+
+    @Label("Valid")
+    public boolean valid;
+}
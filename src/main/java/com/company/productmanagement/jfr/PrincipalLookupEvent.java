@@ -0,0 +1,28 @@
+package com.company.productmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for loading the user named in a token in JwtAuthenticationFilter
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Name("productmanagement.PrincipalLookup")
+@Label("Principal Lookup")
+@Category({ "Product Management", "Security" })
+@Description("Loading the authenticated user for a request")
+@StackTrace(false)
+public class PrincipalLookupEvent extends Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,36 @@
+package com.company.productmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one public ProductService call, emitted by {@link ProductServiceEventAspect}
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Name("productmanagement.ProductOperation")
+@Label("Product Operation")
+@Category({ "Product Management", "Service" })
+@Description("A ProductService operation with the product id and rows returned")
+@StackTrace(false)
+public class ProductOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Product Id")
+    @Description("Id argument of the call, or -1 when the operation has none")
+    public long productId;
+
+    @Label("Rows")
+    @Description("Number of products returned")
+    public int rows;
+
+    @Label("Success")
+    public boolean success;
+}
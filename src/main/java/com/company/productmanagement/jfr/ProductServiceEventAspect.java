@@ -0,0 +1,75 @@
+package com.company.productmanagement.jfr;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.company.productmanagement.cache.CachedPage;
+import com.company.productmanagement.cache.CachedProduct;
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductResponse;
+
+/**
+ * Emits a {@link ProductOperationEvent} around every public ProductService call.
+ * Does nothing beyond one enabled check while no recording is active
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class ProductServiceEventAspect {
+
+    @Around("execution(public * com.company.productmanagement.service.ProductService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ProductOperationEvent event = new ProductOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        boolean success = false;
+        try {
+            result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.productId = productId(joinPoint.getArgs());
+                event.rows = success ? rows(result) : 0;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    private static long productId(Object[] args) {
+        return args.length > 0 && args[0] instanceof Long id ? id : -1;
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof ProductResponse || result instanceof CachedProduct) {
+            return 1;
+        }
+        if (result instanceof CachedPage page) {
+            return page.size();
+        }
+        if (result instanceof PageResponse<?> page) {
+            return page.content().size();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 0;
+    }
+}
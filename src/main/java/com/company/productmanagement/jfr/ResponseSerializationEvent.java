@@ -0,0 +1,34 @@
+package com.company.productmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for serializing a response body, either by the JSON message
+ * converter or when a product is pre-serialized into ProductJsonCache
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Name("productmanagement.ResponseSerialization")
+@Label("Response Serialization")
+@Category({ "Product Management", "Web" })
+@Description("Jackson serialization of a response body")
+@StackTrace(false)
+public class ResponseSerializationEvent extends Event {
+
+    @Label("Value Type")
+    public String valueType;
+
+    @Label("Media Type")
+    public String mediaType;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
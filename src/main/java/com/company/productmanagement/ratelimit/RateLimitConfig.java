@@ -0,0 +1,35 @@
+package com.company.productmanagement.ratelimit;
+
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Rate-limit quotas per endpoint group.
+ * Paths come from {@link ApiEndpointConstants}, quotas from {@code rate-limit.<group>.*}
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitGroup authRateLimit(
+            @Value("${rate-limit.auth.limit:10}") int limit,
+            @Value("${rate-limit.auth.period:1m}") Duration period,
+            @Value("${rate-limit.auth.burst:10}") int burst) {
+        return RateLimitGroup.of("auth", ApiEndpointConstants.RATE_LIMIT_AUTH_ENDPOINTS, limit, period, burst);
+    }
+
+    @Bean
+    public RateLimitGroup productRateLimit(
+            @Value("${rate-limit.products.limit:100}") int limit,
+            @Value("${rate-limit.products.period:1s}") Duration period,
+            @Value("${rate-limit.products.burst:200}") int burst) {
+        return RateLimitGroup.of("products", ApiEndpointConstants.RATE_LIMIT_PRODUCT_ENDPOINTS, limit, period, burst);
+    }
+}
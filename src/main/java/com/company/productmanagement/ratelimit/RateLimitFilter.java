@@ -0,0 +1,109 @@
+package com.company.productmanagement.ratelimit;
+
+import com.company.productmanagement.exception.ApiError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user / per-IP request quotas for the API endpoint groups.
+ * Runs in the security chain right after the JWT filter, so authenticated requests
+ * are limited per user and anonymous ones per client IP. Requests over quota get
+ * 429 with Retry-After, answered through {@link com.company.productmanagement.exception.GlobalExceptionHandler}.
+ * Counts rejections under rate.limit.rejected by group.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RateLimitGroup> groups;
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final boolean enabled;
+    private final Map<String, Counter> rejected = new HashMap<>();
+
+    public RateLimitFilter(List<RateLimitGroup> groups,
+                           RateLimiter rateLimiter,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled) {
+        this.groups = groups;
+        this.rateLimiter = rateLimiter;
+        this.exceptionResolver = exceptionResolver;
+        this.enabled = enabled;
+        for (RateLimitGroup group : groups) {
+            rejected.put(group.name(), Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected with 429, by endpoint group")
+                    .tag("group", group.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitGroup group = groupOf(request);
+        if (group != null) {
+            long waitNanos = rateLimiter.tryAcquire(group, subjectOf(request));
+            if (waitNanos > 0) {
+                rejected.get(group.name()).increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(waitNanos)));
+                exceptionResolver.resolveException(request, response, null, ApiError.RATE_LIMITED.exception());
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RateLimitGroup groupOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RateLimitGroup group : groups) {
+            if (group.matches(path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * User name for authenticated requests, client IP otherwise
+     */
+    private String subjectOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
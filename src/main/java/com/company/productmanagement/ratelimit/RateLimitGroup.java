@@ -0,0 +1,67 @@
+package com.company.productmanagement.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Endpoints sharing one quota, and the quota itself.
+ * Each user (or client IP when anonymous) gets {@code limit} requests per {@code period}
+ * in the group, and may spend up to {@code burst} of them at once.
+ * 
+ * @param name group name, used in metrics and as part of the bucket key
+ * @param patterns request paths in the group
+ * @param limit requests per period
+ * @param period quota period
+ * @param burst requests allowed back to back
+ */
+public record RateLimitGroup(
+        String name,
+        List<PathPattern> patterns,
+        int limit,
+        Duration period,
+        int burst
+) {
+
+    public RateLimitGroup {
+        if (limit <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit of group " + name + " must be positive");
+        }
+    }
+
+    /**
+     * Creates a group from path patterns such as {@code /api/products/**}
+     */
+    public static RateLimitGroup of(String name, String[] patterns, int limit, Duration period, int burst) {
+        List<PathPattern> parsed = Arrays.stream(patterns)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        return new RateLimitGroup(name, parsed, limit, period, burst);
+    }
+
+    /**
+     * Whether a request path belongs to this group
+     * 
+     * @param path parsed request path
+     * @return true if any pattern matches
+     */
+    public boolean matches(PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Time one request uses up of the quota
+     */
+    long emissionIntervalNanos() {
+        return Math.max(1, period.toNanos() / limit);
+    }
+}
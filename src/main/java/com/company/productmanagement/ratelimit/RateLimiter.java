@@ -0,0 +1,56 @@
+package com.company.productmanagement.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Token buckets per (group, user or client IP).
+ * Buckets live in a Caffeine cache, which stripes its bookkeeping, so concurrent
+ * requests only contend on the CAS of their own bucket. Buckets idle for
+ * {@code rate-limit.idle-timeout} are evicted, and at most {@code rate-limit.max-buckets}
+ * are kept; an evicted bucket comes back full, which idle buckets are anyway.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class RateLimiter {
+
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimiter(
+            @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            MeterRegistry meterRegistry
+    ) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Rate-limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one request from the quota of a subject
+     * 
+     * @param group endpoint group
+     * @param subject user name or client IP
+     * @return 0 if the request is allowed, otherwise nanoseconds until it would be
+     */
+    public long tryAcquire(RateLimitGroup group, String subject) {
+        long now = System.nanoTime();
+        return buckets.get(new BucketKey(group.name(), subject), key -> new TokenBucket(group, now))
+                .tryAcquire(now);
+    }
+
+    private record BucketKey(String group, String subject) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.productmanagement.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm (GCRA).
+ * The whole state is one timestamp, the theoretical arrival time of the next request,
+ * updated with a single compare-and-set; there is no refill thread and no lock.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param group quota of the bucket
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    public TokenBucket(RateLimitGroup group, long nowNanos) {
+        this.emissionIntervalNanos = group.emissionIntervalNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * group.burst();
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token
+     * 
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return 0 if the request is allowed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.productmanagement.repository;
+
+/**
+ * Product name lookups resolved through Hibernate's natural-id API,
+ * so repeated checks are served from the second-level cache
+ * instead of issuing a query each time
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public interface ProductNaturalIdRepository {
+
+    /**
+     * Find if product exists by the name
+     * 
+     * @param name 
+     * @return boolean
+     */
+    Boolean existsByName(String name);
+}
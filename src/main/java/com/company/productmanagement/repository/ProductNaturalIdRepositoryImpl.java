@@ -0,0 +1,30 @@
+package com.company.productmanagement.repository;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.company.productmanagement.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Natural-id implementation of {@link ProductNaturalIdRepository}
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Transactional(readOnly = true)
+class ProductNaturalIdRepositoryImpl implements ProductNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Boolean existsByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(name)
+                .isPresent();
+    }
+}
@@ -1,35 +1,103 @@
 package com.company.productmanagement.repository;
 
+import com.company.productmanagement.dto.product.ProductResponse;
 import com.company.productmanagement.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for Product entity
- * Provides database operations for product management
+ * Provides database operations for product management;
+ * name checks come from {@link ProductNaturalIdRepository}
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductNaturalIdRepository {
 
     /**
-     * Find if product exists by the name
+     * Find all product ive paginated results
      * 
-     * @param name 
-     * @return boolean
+     * @param pageable 
+     * @return Page<Product>
      */
-    Boolean existsByName(String name);
+    Page<Product> findAll(Pageable pageable);
 
     /**
-     * Find all product ive paginated results
+     * Find one page of products without counting the total
      * 
      * @param pageable 
-     * @return Page<Product>
+     * @return Slice<Product>
      */
-    Page<Product> findAll(Pageable pageable);
+    Slice<Product> findAllBy(Pageable pageable);
+
+    /**
+     * Find only the last update timestamp of a product, used as its version
+     * 
+     * @param id product ID
+     * @return Optional containing the timestamp if the product exists
+     */
+    @Query("select p.updatedAt from Product p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    /**
+     * Find a product and lock its row until the transaction ends,
+     * so concurrent read-modify-write updates of one product are serialized
+     * 
+     * @param id product ID
+     * @return Optional containing the product if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findByIdForUpdate(Long id);
+
+    /**
+     * Number of products read per keyset batch by {@link #streamAllAsResponses()}
+     */
+    int STREAM_BATCH_SIZE = 500;
+
+    /**
+     * Stream all products ordered by id as response DTOs.
+     * Read lazily in keyset batches of {@value #STREAM_BATCH_SIZE}, each in its own short
+     * read-only transaction, so a slow consumer holds no connection between batches
+     * and memory stays at one batch however large the catalog is.
+     * 
+     * @return Stream<ProductResponse>
+     */
+    default Stream<ProductResponse> streamAllAsResponses() {
+        Pageable batch = PageRequest.ofSize(STREAM_BATCH_SIZE);
+        return Stream.iterate(findResponsesAfter(0L, batch),
+                        products -> !products.isEmpty(),
+                        products -> products.size() < STREAM_BATCH_SIZE
+                                ? List.of()
+                                : findResponsesAfter(products.get(products.size() - 1).id(), batch))
+                .flatMap(List::stream);
+    }
+
+    /**
+     * Find the products after the given id, ordered by id, as response DTOs.
+     * Keyset batch for scans that must not hold a cursor open between batches.
+     * 
+     * @param afterId last id of the previous batch, 0 for the first
+     * @param pageable batch size
+     * @return List<ProductResponse>
+     */
+    @Query("select new com.company.productmanagement.dto.product.ProductResponse("
+            + "p.id, p.name, p.description, p.price, p.quantity, p.createdAt, p.updatedAt) "
+            + "from Product p where p.id > :afterId order by p.id")
+    List<ProductResponse> findResponsesAfter(Long afterId, Pageable pageable);
     
 }
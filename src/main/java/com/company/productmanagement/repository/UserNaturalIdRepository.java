@@ -0,0 +1,32 @@
+package com.company.productmanagement.repository;
+
+import java.util.Optional;
+
+import com.company.productmanagement.entity.User;
+
+/**
+ * Username lookups resolved through Hibernate's natural-id API,
+ * so repeated lookups are served from the second-level cache
+ * instead of issuing a query each time
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Find user by username
+     * 
+     * @param username the username to search for
+     * @return Optional containing user if found
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Check if username exists
+     * 
+     * @param username the username to check
+     * @return true if exists, false otherwise
+     */
+    boolean existsByUsername(String username);
+}
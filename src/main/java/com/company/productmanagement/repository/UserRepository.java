@@ -9,30 +9,15 @@ import com.company.productmanagement.entity.User;
 
 /**
  * Repository interface for User entity
- * Provides database operations for user management
+ * Provides database operations for user management;
+ * username lookups come from {@link UserNaturalIdRepository}
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     
-    /**
-     * Find user by username
-     * 
-     * @param username the username to search for
-     * @return Optional containing user if found
-     */
-    Optional<User> findByUsername(String username);
-    
-    /**
-     * Check if username exists
-     * 
-     * @param username the username to check
-     * @return true if exists, false otherwise
-     */
-    boolean existsByUsername(String username);
-
     /**
      * Find user by email
      * 
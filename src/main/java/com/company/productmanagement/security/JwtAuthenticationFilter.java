@@ -5,7 +5,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import com.company.productmanagement.jfr.PrincipalLookupEvent;
 import com.company.productmanagement.utils.JwtUtils;
 
 import java.io.IOException;
@@ -20,17 +23,63 @@ import java.io.IOException;
 /**
  * JWT authentication filter that validates tokens on each request.
  * Extends OncePerRequestFilter to ensure single execution per request.
+ * Times token parsing and the principal lookup, and counts requests
+ * by outcome (anonymous, authenticated, rejected).
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
     //private final UserRepository userRepository;
+    private final Timer parseTimer;
+    private final Timer principalLookupTimer;
+    private final Counter anonymous;
+    private final Counter authenticated;
+    private final Counter rejected;
+
+    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsService userDetailsService, MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.userDetailsService = userDetailsService;
+        this.parseTimer = Timer.builder("auth.jwt.parse")
+                .description("Time to parse and verify the bearer token signature")
+                .register(meterRegistry);
+        this.principalLookupTimer = Timer.builder("auth.principal.lookup")
+                .description("Time to load the user named in the token")
+                .register(meterRegistry);
+        this.anonymous = requests(meterRegistry, "anonymous");
+        this.authenticated = requests(meterRegistry, "authenticated");
+        this.rejected = requests(meterRegistry, "rejected");
+    }
+
+    /**
+     * Loads the user named in the token, timed and recorded as a JFR event
+     * 
+     * @param username subject of the token
+     * @return user details
+     */
+    private UserDetails lookUpPrincipal(String username) {
+        PrincipalLookupEvent event = new PrincipalLookupEvent();
+        event.begin();
+        try {
+            UserDetails userDetails = principalLookupTimer.record(() -> userDetailsService.loadUserByUsername(username));
+            event.found = userDetails != null;
+            return userDetails;
+        } finally {
+            event.username = username;
+            event.commit();
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.jwt.requests")
+                .description("Requests seen by the JWT filter, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
     
     /**
      * Filters incoming requests and validates JWT tokens
@@ -52,18 +101,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String authHeader = request.getHeader("Authorization");
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            anonymous.increment();
             filterChain.doFilter(request, response);
             return;
         }
         
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtUtils.extractUsername(jwt);
+            final String username = parseTimer.record(() -> jwtUtils.extractUsername(jwt));
             
             // If username is extracted and no authentication exists in context
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 //UserDetails userDetails = userRepository.findByUsername(username).get();
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = lookUpPrincipal(username);
                 
                 // Validate token
                 if (jwtUtils.isTokenValid(jwt, userDetails)) {
@@ -80,6 +130,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e);
         }
+        (SecurityContextHolder.getContext().getAuthentication() != null ? authenticated : rejected).increment();
         
         filterChain.doFilter(request, response);
     }
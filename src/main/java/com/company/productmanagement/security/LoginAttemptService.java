@@ -0,0 +1,141 @@
+package com.company.productmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Failed-login counters per username and per client IP, with exponential lockout.
+ * After the free attempts, each further failure locks the username (or IP) out for
+ * twice as long as the previous one, up to {@code login-throttle.max-lockout}.
+ * Checking a login is a single cache read, so a blocked attempt never reaches BCrypt.
+ * Counters are forgotten {@code login-throttle.reset-after} after the last failure,
+ * and at most {@code login-throttle.max-entries} are kept.
+ * Counts blocked attempts under auth.login.blocked by reason (username, ip)
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+public class LoginAttemptService {
+
+    private static final String USER_PREFIX = "user:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final Cache<String, Attempts> attempts;
+    private final int usernameFreeAttempts;
+    private final int ipFreeAttempts;
+    private final long baseLockoutNanos;
+    private final long maxLockoutNanos;
+    private final Counter blockedByUsername;
+    private final Counter blockedByIp;
+
+    public LoginAttemptService(
+            @Value("${login-throttle.username-free-attempts:5}") int usernameFreeAttempts,
+            @Value("${login-throttle.ip-free-attempts:50}") int ipFreeAttempts,
+            @Value("${login-throttle.base-lockout:1s}") Duration baseLockout,
+            @Value("${login-throttle.max-lockout:15m}") Duration maxLockout,
+            @Value("${login-throttle.reset-after:30m}") Duration resetAfter,
+            @Value("${login-throttle.max-entries:100000}") long maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this.usernameFreeAttempts = usernameFreeAttempts;
+        this.ipFreeAttempts = ipFreeAttempts;
+        this.baseLockoutNanos = baseLockout.toNanos();
+        this.maxLockoutNanos = maxLockout.toNanos();
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(resetAfter.compareTo(maxLockout) > 0 ? resetAfter : maxLockout)
+                .build();
+        this.blockedByUsername = blocked(meterRegistry, "username");
+        this.blockedByIp = blocked(meterRegistry, "ip");
+        Gauge.builder("auth.login.tracked", attempts, Cache::estimatedSize)
+                .description("Usernames and client IPs with recent failed logins")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a login may be attempted, counting it if it is blocked
+     * 
+     * @param username username of the attempt
+     * @param clientIp client IP, null when unknown
+     * @return 0 if the attempt may proceed, otherwise nanoseconds until it may
+     */
+    public long lockoutRemaining(String username, String clientIp) {
+        long now = System.nanoTime();
+        long byUsername = remaining(USER_PREFIX + username, now);
+        if (byUsername > 0) {
+            blockedByUsername.increment();
+            return byUsername;
+        }
+        long byIp = clientIp != null ? remaining(IP_PREFIX + clientIp, now) : 0;
+        if (byIp > 0) {
+            blockedByIp.increment();
+        }
+        return byIp;
+    }
+
+    /**
+     * Records a failed login (wrong password)
+     * 
+     * @param username username of the attempt
+     * @param clientIp client IP, null when unknown
+     */
+    public void loginFailed(String username, String clientIp) {
+        long now = System.nanoTime();
+        fail(USER_PREFIX + username, usernameFreeAttempts, now);
+        if (clientIp != null) {
+            fail(IP_PREFIX + clientIp, ipFreeAttempts, now);
+        }
+    }
+
+    /**
+     * Clears the failures of a username after a successful login.
+     * The client IP keeps its count, so one valid account cannot reset a spraying IP
+     * 
+     * @param username username that logged in
+     */
+    public void loginSucceeded(String username) {
+        attempts.invalidate(USER_PREFIX + username);
+    }
+
+    private long remaining(String key, long now) {
+        Attempts current = attempts.getIfPresent(key);
+        return current != null && current.locked() ? Math.max(0, current.blockedUntil() - now) : 0;
+    }
+
+    private void fail(String key, int freeAttempts, long now) {
+        attempts.asMap().compute(key, (k, current) -> {
+            int failures = current != null ? current.failures() + 1 : 1;
+            boolean locked = failures > freeAttempts;
+            return new Attempts(failures, locked, locked ? now + lockout(failures - freeAttempts) : now);
+        });
+    }
+
+    /**
+     * Lockout after the n-th failure beyond the free attempts: base, 2 x base, 4 x base, ...
+     */
+    private long lockout(int excessFailures) {
+        int doublings = excessFailures - 1;
+        if (doublings >= Long.numberOfLeadingZeros(baseLockoutNanos) - 1) {
+            return maxLockoutNanos;
+        }
+        return Math.min(baseLockoutNanos << doublings, maxLockoutNanos);
+    }
+
+    private static Counter blocked(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.blocked")
+                .description("Login attempts rejected before authentication, by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Attempts(int failures, boolean locked, long blockedUntil) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.company.productmanagement.security;
 
+import jakarta.servlet.DispatcherType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -19,16 +22,24 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.company.productmanagement.concurrency.ConcurrencyLimitFilter;
+import com.company.productmanagement.entity.Role;
+import com.company.productmanagement.ratelimit.RateLimitFilter;
 import com.company.productmanagement.utils.ApiEndpointConstants;
 
 /**
  * Security configuration class for Spring Security
- * Configures JWT-based authentication and authorization
+ * Configures JWT-based authentication and authorization,
+ * followed by per-user / per-IP rate limiting and the adaptive concurrency limit.
+ * Actuator requests arriving on management.server.port need no token; on the API port
+ * the Prometheus scrape is restricted to admins
  * 
  * @author Shruti Sharma
  * @version 1.0
@@ -40,7 +51,11 @@ import com.company.productmanagement.utils.ApiEndpointConstants;
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
     
     /**
      * Configures HTTP security filter chain
@@ -55,18 +70,36 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // async dispatches only complete requests that were already authorized (streaming)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(managementPort()).permitAll()
                         .requestMatchers(ApiEndpointConstants.PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(ApiEndpointConstants.PROMETHEUS).hasRole(Role.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                // after authorization, so anonymous requests never take a slot
+                .addFilterAfter(concurrencyLimitFilter, AuthorizationFilter.class);
         
         return http.build();
     }
 
+    /**
+     * Matches actuator requests served by the separate management server
+     * Its port is only known once it has started, so it is read per request
+     * 
+     * @return matcher, never matching when actuator shares the API port
+     */
+    private RequestMatcher managementPort() {
+        return request -> request.getRequestURI().startsWith("/actuator/")
+                && String.valueOf(request.getLocalPort()).equals(environment.getProperty("local.management.port"));
+    }
+
     //To allow origins 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -108,12 +141,12 @@ public class SecurityConfig {
     }
     
     /**
-     * Provides BCrypt password encoder
+     * Provides BCrypt password encoder, timed under auth.password
      * 
      * @return PasswordEncoder implementation
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
@@ -2,7 +2,7 @@ package com.company.productmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -10,30 +10,43 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.company.productmanagement.cache.UnknownUsernameCache;
 import com.company.productmanagement.dto.auth.AuthResponse;
 import com.company.productmanagement.dto.auth.LoginRequest;
 import com.company.productmanagement.dto.auth.RegisterRequest;
 import com.company.productmanagement.entity.User;
+import com.company.productmanagement.exception.ApiError;
 import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.security.LoginAttemptService;
 import com.company.productmanagement.utils.JwtUtils;
+import com.company.productmanagement.workload.Workload;
+import com.company.productmanagement.workload.WorkloadClass;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service class for authentication operations
- * Handles user registration and login with JWT token generation
+ * Handles user registration and login with JWT token generation;
+ * logins are throttled per username and client IP after repeated failures
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
+@Workload(WorkloadClass.AUTH)
 public class AuthService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
+    private final LoginAttemptService loginAttemptService;
+    private final UnknownUsernameCache unknownUsernameCache;
     
     /**
      * Registers a new user in the system
@@ -46,8 +59,7 @@ public class AuthService {
     public AuthResponse register(RegisterRequest request) {
         // Check if username already exists
         if (userRepository.existsByUsername(request.username())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT,
-                "a-2");
+            throw ApiError.USERNAME_TAKEN.exception();
         }
         
         // Create new user
@@ -59,6 +71,7 @@ public class AuthService {
                 .build();
         
         User savedUser = userRepository.save(user);
+        unknownUsernameCache.evict(request.username());
         
         // Generate JWT token
         String token = jwtUtils.generateToken(savedUser);
@@ -71,9 +84,18 @@ public class AuthService {
      * 
      * @param request login request containing credentials
      * @return AuthResponse with JWT token
-     * @throws ResponseStatusException with status UNAUTHORIZED if credentials are invalid
+     * @throws ResponseStatusException with status UNAUTHORIZED if credentials are invalid,
+     *         TOO_MANY_REQUESTS if the username or client IP is locked out after failed logins
      */
     public AuthResponse login(LoginRequest request) {
+        // Reject locked-out attempts before the password is hashed
+        String clientIp = clientIp();
+        long lockout = loginAttemptService.lockoutRemaining(request.username(), clientIp);
+        if (lockout > 0) {
+            retryAfter(lockout);
+            throw ApiError.LOGIN_THROTTLED.exception();
+        }
+        
         try {
             // Authenticate user
             Authentication authentication = authenticationManager.authenticate(
@@ -85,6 +107,7 @@ public class AuthService {
             
             // Get authenticated user
             User user = (User) authentication.getPrincipal();
+            loginAttemptService.loginSucceeded(request.username());
             
             // Generate JWT token
             String token = jwtUtils.generateToken(user);
@@ -92,8 +115,32 @@ public class AuthService {
             return new AuthResponse(token, user.getUsername(), user.getEmail());
             
         } catch (BadCredentialsException e) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,
-                "a-1");
+            loginAttemptService.loginFailed(request.username(), clientIp);
+            throw ApiError.INVALID_CREDENTIALS.exception();
+        }
+    }
+    
+    /**
+     * Client IP of the current HTTP request
+     * 
+     * @return remote address, null outside of a request
+     */
+    private String clientIp() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getRemoteAddr()
+                : null;
+    }
+    
+    /**
+     * Tells the client when to retry, if there is a response to tell it on
+     * 
+     * @param waitNanos time until the lockout ends
+     */
+    private void retryAfter(long waitNanos) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null) {
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            attributes.getResponse().setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
         }
     }
 }
@@ -1,33 +1,64 @@
 package com.company.productmanagement.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.company.productmanagement.cache.CachedPage;
+import com.company.productmanagement.cache.CachedProduct;
+import com.company.productmanagement.cache.CatalogVersion;
+import com.company.productmanagement.cache.ProductCountCache;
+import com.company.productmanagement.cache.ProductJsonCache;
+import com.company.productmanagement.cache.ProductPageCache;
+import com.company.productmanagement.cache.ProductVersionCache;
+import com.company.productmanagement.cache.RequestCoalescer;
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductBatchItem;
 import com.company.productmanagement.dto.product.ProductRequest;
 import com.company.productmanagement.dto.product.ProductResponse;
 import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.exception.ApiError;
 import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.workload.Workload;
+import com.company.productmanagement.workload.WorkloadClass;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for product management operations
  * Handles CRUD operations for products
+ * Every public method is timed under product.service (tagged by method)
  * 
  * @author Shruti Sharma
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "product.service", description = "Product service operations")
+@Workload(WorkloadClass.READ)
 public class ProductService {
     
     private final ProductRepository productRepository;
+    private final ProductJsonCache productJsonCache;
+    private final ProductCountCache productCountCache;
+    private final RequestCoalescer requestCoalescer;
+    private final ProductVersionCache productVersionCache;
+    private final CatalogVersion catalogVersion;
+    private final ProductPageCache productPageCache;
     
     /**
      * Creates a new product
@@ -36,12 +67,10 @@ public class ProductService {
      * @return created product response
      */
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ProductResponse createProduct(ProductRequest request) {
         if (productRepository.existsByName(request.name())) {
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT,
-                    "pdm-2"
-            );
+            throw ApiError.PRODUCT_NAME_TAKEN.exception();
         }
         Product product = Product.builder()
                 .name(request.name())
@@ -51,6 +80,8 @@ public class ProductService {
                 .build();
         
         Product savedProduct = productRepository.save(product);
+        productCountCache.invalidate();
+        catalogVersion.bump();
         return mapToResponse(savedProduct);
     }
     
@@ -72,21 +103,154 @@ public class ProductService {
                 .map(this::mapToResponse);
     }
     
+    /**
+     * Retrieves one page of products
+     * Uses a slice query, so no COUNT(*) runs unless a total is requested,
+     * and even then the count comes from the count cache.
+     * Concurrent requests for the same page share one load; no transaction is held
+     * while waiting, the repository queries run in their own read-only transactions.
+     * 
+     * @param pageable page request
+     * @param includeTotal whether to include the total number of products
+     * @return page envelope
+     */
+    public PageResponse<ProductResponse> getProductPage(Pageable pageable, boolean includeTotal) {
+        return loadProductPage(catalogVersion.current(), pageable, includeTotal);
+    }
+    
+    /**
+     * Retrieves one page of products as ready-to-write JSON
+     * Pages are shared by all users and cached per catalog version,
+     * so a product write makes every cached page stale at once
+     * 
+     * @param pageable page request
+     * @param includeTotal whether to include the total number of products
+     * @return cached page encodings
+     */
+    public CachedPage getCachedProductPage(Pageable pageable, boolean includeTotal) {
+        long version = catalogVersion.current();
+        return productPageCache.get(version, pageable, includeTotal)
+                .orElseGet(() -> productPageCache.put(version, pageable, includeTotal,
+                        loadProductPage(version, pageable, includeTotal)));
+    }
+    
+    /**
+     * Loads one page, shared only with requests that saw the same catalog version,
+     * so a request made after a write never joins a load that started before it
+     * 
+     * @param version catalog version read before the load
+     * @param pageable page request
+     * @param includeTotal whether to include the total number of products
+     * @return page envelope
+     */
+    private PageResponse<ProductResponse> loadProductPage(long version, Pageable pageable, boolean includeTotal) {
+        return requestCoalescer.execute(List.of("product-page", version, pageable, includeTotal), () -> {
+            Slice<ProductResponse> products = productRepository.findAllBy(pageable)
+                    .map(this::mapToResponse);
+            Long total = includeTotal ? productCountCache.get(productRepository::count) : null;
+            return PageResponse.of(products, total);
+        });
+    }
+    
+    /**
+     * Streams all products ordered by id to the given consumer.
+     * Products are read in keyset batches as the consumer takes them, so a slow client
+     * applies backpressure down to the queries, yet holds a connection only while a batch is read.
+     * 
+     * @param consumer receives each product in order
+     */
+    @Workload(WorkloadClass.EXPORT)
+    public void streamAllProducts(Consumer<ProductResponse> consumer) {
+        try (Stream<ProductResponse> products = productRepository.streamAllAsResponses()) {
+            products.forEach(consumer);
+        }
+    }
+    
     /**
      * Retrieves a product by ID
+     * Served from the product cache when possible, so no transaction is opened on a hit
      * 
      * @param id product ID
      * @return product response
      * @throws ResponseStatusException if product not found
      */
-    @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(
-                    HttpStatus.NOT_FOUND, 
-                    "pdm-1" 
-            ));
-        return mapToResponse(product);
+        return getCachedProductById(id).product();
+    }
+    
+    /**
+     * Retrieves a product by ID together with its pre-serialized JSON
+     * On a cache miss, concurrent requests for the same ID share one database load
+     * 
+     * @param id product ID
+     * @return cached product with its encodings
+     * @throws ResponseStatusException if product not found
+     */
+    public CachedProduct getCachedProductById(Long id) {
+        return productJsonCache.get(id)
+                .orElseGet(() -> requestCoalescer.execute(List.of("product", id),
+                        () -> {
+                            long jsonGeneration = productJsonCache.generation();
+                            long versionGeneration = productVersionCache.generation();
+                            return cacheProduct(findProductById(id), jsonGeneration, versionGeneration);
+                        }));
+    }
+    
+    /**
+     * Retrieves the current version (last update timestamp) of a product
+     * Answered from the version cache when possible, otherwise only the timestamp column is read
+     * 
+     * @param id product ID
+     * @return version, empty if the product does not exist
+     */
+    public Optional<LocalDateTime> getProductVersion(Long id) {
+        Optional<LocalDateTime> cached = productVersionCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = productVersionCache.generation();
+        Optional<LocalDateTime> version = productRepository.findUpdatedAtById(id);
+        version.ifPresent(updatedAt -> productVersionCache.put(id, updatedAt, generation));
+        return version;
+    }
+    
+    /**
+     * Retrieves the version of the catalog as a whole, bumped on every product write
+     * 
+     * @return catalog version
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.current();
+    }
+    
+    /**
+     * Retrieves many products by ID in one call
+     * Cached products are served from memory, all misses are loaded with a single IN query
+     * 
+     * @param ids product IDs
+     * @return one entry per requested ID in request order, marking IDs that do not exist
+     */
+    public List<ProductBatchItem> getProductsByIds(List<Long> ids) {
+        Map<Long, ProductResponse> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            productJsonCache.get(id).ifPresentOrElse(
+                    cached -> found.put(id, cached.product()),
+                    () -> misses.add(id));
+        }
+        if (!misses.isEmpty()) {
+            long jsonGeneration = productJsonCache.generation();
+            long versionGeneration = productVersionCache.generation();
+            for (Product product : productRepository.findAllById(misses)) {
+                found.put(product.getId(),
+                        cacheProduct(mapToResponse(product), jsonGeneration, versionGeneration).product());
+            }
+        }
+        return ids.stream()
+                .map(id -> found.containsKey(id)
+                        ? ProductBatchItem.found(found.get(id))
+                        : ProductBatchItem.notFound(id))
+                .toList();
     }
     
     /**
@@ -98,11 +262,10 @@ public class ProductService {
      * @throws ProductNotFoundException if product not found
      */
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public ProductResponse updateProduct(Long id, ProductRequest request) {
         Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "pdm-1"));
+                .orElseThrow(ApiError.PRODUCT_NOT_FOUND::exception);
         
         product.setName(request.name());
         product.setDescription(request.description());
@@ -110,6 +273,36 @@ public class ProductService {
         product.setQuantity(request.quantity());
         
         Product updatedProduct = productRepository.save(product);
+        productJsonCache.evict(id);
+        productVersionCache.evict(id);
+        catalogVersion.bump();
+        return mapToResponse(updatedProduct);
+    }
+    
+    /**
+     * Adds to (or, with a negative delta, takes from) the stock of a product
+     * The row is locked while it is changed, so concurrent adjustments never lose an update
+     * 
+     * @param id product ID
+     * @param delta change in quantity
+     * @return updated product response
+     * @throws ResponseStatusException if product not found or the stock would drop below zero
+     */
+    @Transactional
+    @Workload(WorkloadClass.WRITE)
+    public ProductResponse adjustStock(Long id, int delta) {
+        Product product = productRepository.findByIdForUpdate(id)
+                .orElseThrow(ApiError.PRODUCT_NOT_FOUND::exception);
+        int quantity = Math.addExact(product.getQuantity(), delta);
+        if (quantity < 0) {
+            throw ApiError.INSUFFICIENT_STOCK.exception();
+        }
+        product.setQuantity(quantity);
+        
+        Product updatedProduct = productRepository.saveAndFlush(product);
+        productJsonCache.evict(id);
+        productVersionCache.evict(id);
+        catalogVersion.bump();
         return mapToResponse(updatedProduct);
     }
     
@@ -120,22 +313,52 @@ public class ProductService {
      * @throws ResponseStatusException if product not found
      */
     @Transactional
+    @Workload(WorkloadClass.WRITE)
     public void deleteProduct(Long id) {
         if (!productRepository.existsById(id)) {
-            throw new ResponseStatusException(
-                HttpStatus.NOT_FOUND,
-                "pdm-1");
+            throw ApiError.PRODUCT_NOT_FOUND.exception();
         }
         productRepository.deleteById(id);
+        productJsonCache.evict(id);
+        productVersionCache.evict(id);
+        productCountCache.invalidate();
+        catalogVersion.bump();
+    }
+    
+    /**
+     * Puts a product into the JSON and version caches
+     * 
+     * @param product product response
+     * @param jsonGeneration JSON cache generation read before the product was loaded
+     * @param versionGeneration version cache generation read before the product was loaded
+     * @return cached product with its encodings
+     */
+    private CachedProduct cacheProduct(ProductResponse product, long jsonGeneration, long versionGeneration) {
+        productVersionCache.put(product.id(), product.updatedAt(), versionGeneration);
+        return productJsonCache.put(product, jsonGeneration);
+    }
+    
+    /**
+     * Loads a product from the database
+     * 
+     * @param id product ID
+     * @return product response
+     * @throws ResponseStatusException if product not found
+     */
+    private ProductResponse findProductById(Long id) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(ApiError.PRODUCT_NOT_FOUND::exception);
+        return mapToResponse(product);
     }
     
     /**
      * Maps Product entity to ProductResponse DTO
+     * Package-private so the JMH benchmarks can measure it directly
      * 
      * @param product product entity
      * @return product response DTO
      */
-    private ProductResponse mapToResponse(Product product) {
+    ProductResponse mapToResponse(Product product) {
         return new ProductResponse(
                 product.getId(),
                 product.getName(),
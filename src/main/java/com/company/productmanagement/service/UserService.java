@@ -2,14 +2,19 @@ package com.company.productmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
 
+import com.company.productmanagement.cache.UnknownUsernameCache;
+import com.company.productmanagement.entity.User;
+import com.company.productmanagement.exception.ApiError;
 import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.workload.Workload;
+import com.company.productmanagement.workload.WorkloadClass;
+
+import java.util.Optional;
 
 /**
  * Implementation of UserDetailsService for loading user-specific data
@@ -20,12 +25,15 @@ import com.company.productmanagement.repository.UserRepository;
  */
 @Service
 @RequiredArgsConstructor
+@Workload(WorkloadClass.AUTH)
 public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UnknownUsernameCache unknownUsernameCache;
     
     /**
      * Loads user by username for authentication
+     * Usernames recently found not to exist are rejected without a query
      * 
      * @param username the username to search for
      * @return UserDetails containing user information
@@ -33,8 +41,16 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"a-2"));
+        if (unknownUsernameCache.isUnknown(username)) {
+            throw ApiError.USER_NOT_FOUND.exception();
+        }
+        long generation = unknownUsernameCache.generation();
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty()) {
+            unknownUsernameCache.putUnknown(username, generation);
+            throw ApiError.USER_NOT_FOUND.exception();
+        }
+        return user.get();
     }
 
 }
\ No newline at end of file
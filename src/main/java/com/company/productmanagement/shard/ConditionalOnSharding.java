@@ -0,0 +1,22 @@
+package com.company.productmanagement.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers a bean only when products are sharded ({@code sharding.enabled=true})
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public @interface ConditionalOnSharding {
+}
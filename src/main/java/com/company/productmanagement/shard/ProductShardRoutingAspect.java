@@ -0,0 +1,140 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+
+/**
+ * Routes {@link com.company.productmanagement.repository.ProductRepository} calls to the shards.
+ * Calls by id go to the shard owning the id; inside a transaction the first of them
+ * binds the transaction to that shard. New products go to the shards in turn.
+ * Calls over the whole catalog run on every shard through {@link ShardedProductQueries}.
+ * Calls made with a shard already pinned (by {@link ShardOperations}) go straight through.
+ * Saves and deletes also keep {@link ShardNameRegistry} in step, so names stay unique across shards.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Aspect
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ProductShardRoutingAspect {
+
+    private final ShardRouter shardRouter;
+    private final ShardedProductQueries shardedProductQueries;
+    private final ShardNameRegistry shardNameRegistry;
+
+    @Around("target(com.company.productmanagement.repository.ProductRepository)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (ShardContext.isPinned() || method.getDeclaringClass() == Object.class) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        return switch (method.getName()) {
+            case "findById", "existsById", "getReferenceById", "findUpdatedAtById", "findByIdForUpdate" ->
+                    onShard(shardRouter.shardOf((Long) args[0]), joinPoint);
+            case "deleteById" -> delete((Long) args[0], joinPoint);
+            case "delete" -> delete(((Product) args[0]).getId(), joinPoint);
+            case "save", "saveAndFlush" -> save((Product) args[0], joinPoint);
+            case "count" -> shardedProductQueries.count();
+            case "existsByName" -> shardedProductQueries.existsByName((String) args[0]);
+            case "findAllById" -> shardedProductQueries.findAllById(ids(args[0]));
+            case "findAll" -> findAll(args);
+            case "findAllBy" -> shardedProductQueries.findSlice((Pageable) args[0]);
+            case "streamAllAsResponses" -> shardedProductQueries.streamAll();
+            case "deleteAll" -> deleteAll(args);
+            case "flush" -> joinPoint.proceed();
+            default -> throw new UnsupportedOperationException(
+                    "ProductRepository." + method.getName() + " is not supported with sharding enabled");
+        };
+    }
+
+    private Object findAll(Object[] args) {
+        if (args.length == 0) {
+            return shardedProductQueries.findAll();
+        }
+        if (args[0] instanceof Pageable pageable) {
+            return shardedProductQueries.findPage(pageable);
+        }
+        throw new UnsupportedOperationException("ProductRepository.findAll(" + args[0].getClass().getSimpleName()
+                + ") is not supported with sharding enabled");
+    }
+
+    private Object deleteAll(Object[] args) {
+        if (args.length > 0) {
+            throw new UnsupportedOperationException("ProductRepository.deleteAll(entities) is not supported with sharding enabled");
+        }
+        shardedProductQueries.deleteAll();
+        shardNameRegistry.clear();
+        return null;
+    }
+
+    private Object delete(Long id, ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = onShard(shardRouter.shardOf(id), joinPoint);
+        shardNameRegistry.releaseOnDelete(id);
+        return result;
+    }
+
+    private Object save(Product product, ProceedingJoinPoint joinPoint) throws Throwable {
+        Integer bound = ShardContext.boundShard();
+        int shard;
+        if (product.getId() != null) {
+            shard = shardRouter.shardOf(product.getId());
+        } else {
+            shard = bound != null ? bound : shardRouter.nextInsertShard();
+        }
+        boolean insert = product.getId() == null;
+        boolean claimed;
+        if (insert) {
+            shardNameRegistry.claimForInsert(product.getName());
+            claimed = true;
+        } else {
+            claimed = shardNameRegistry.claimForUpdate(product.getId(), product.getName());
+        }
+        Product saved;
+        try {
+            saved = (Product) onShard(shard, joinPoint);
+        } catch (Throwable e) {
+            if (claimed) {
+                shardNameRegistry.release(product.getName());
+            }
+            throw e;
+        }
+        if (insert) {
+            shardNameRegistry.assign(saved.getName(), saved.getId());
+        }
+        if (shardRouter.shardOf(saved.getId()) != shard) {
+            throw new IllegalStateException("Shard " + shard + " generated id " + saved.getId()
+                    + " which belongs to shard " + shardRouter.shardOf(saved.getId()));
+        }
+        return saved;
+    }
+
+    private static Object onShard(int shard, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ShardContext.bindToTransaction(shard);
+            return joinPoint.proceed();
+        }
+        Integer previous = ShardContext.pin(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterable<Long> ids(Object ids) {
+        return (Iterable<Long>) ids;
+    }
+}
@@ -0,0 +1,91 @@
+package com.company.productmanagement.shard;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Shard of the current thread, read when a connection is taken.
+ * A shard is either pinned to the thread for a block of work, or bound to the current
+ * transaction by its first product query, so statements flushed at commit still reach it.
+ * Without either, connections go to shard 0, which also holds all other tables.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class ShardContext {
+
+    static final int HOME_SHARD = 0;
+
+    private static final ThreadLocal<Integer> PINNED = new ThreadLocal<>();
+    private static final Object TRANSACTION_KEY = new Object();
+
+    private ShardContext() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @return the pinned shard, else the shard of the current transaction, else {@link #HOME_SHARD}
+     */
+    static int current() {
+        Integer pinned = PINNED.get();
+        if (pinned != null) {
+            return pinned;
+        }
+        Integer bound = boundShard();
+        return bound != null ? bound : HOME_SHARD;
+    }
+
+    /**
+     * @return whether a shard is pinned to this thread
+     */
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * @param shard shard to pin
+     * @return the previously pinned shard, to pass to {@link #restore(Integer)}
+     */
+    static Integer pin(int shard) {
+        Integer previous = PINNED.get();
+        PINNED.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            PINNED.remove();
+        } else {
+            PINNED.set(previous);
+        }
+    }
+
+    /**
+     * @return shard of the current transaction, null if it has not touched a product yet
+     */
+    static Integer boundShard() {
+        return (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_KEY);
+    }
+
+    /**
+     * Binds the current transaction to a shard until it completes
+     * A transaction holds one connection, so it can only ever reach one shard
+     * 
+     * @param shard shard
+     * @throws IllegalStateException if the transaction is already bound to another shard
+     */
+    static void bindToTransaction(int shard) {
+        Integer bound = boundShard();
+        if (bound == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+                }
+            });
+        } else if (bound != shard) {
+            throw new IllegalStateException("Transaction is on shard " + bound + " and cannot reach shard " + shard);
+        }
+    }
+}
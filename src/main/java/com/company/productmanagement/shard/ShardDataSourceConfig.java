@@ -0,0 +1,86 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.workload.WorkloadDataSourceConfig;
+import com.company.productmanagement.workload.WorkloadRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Product storage spread over the databases listed in {@code sharding.urls}.
+ * Every shard gets its own workload pools (named workload-&lt;workload&gt;-shard&lt;n&gt;) and
+ * the same schema; shard 0 also holds users and anything else that is not sharded.
+ * Connections are taken lazily, at the first statement rather than when a transaction
+ * begins, so the shard can still be chosen by the first product query of the transaction.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnSharding
+public class ShardDataSourceConfig {
+
+    private static final long DEFAULT_RANGE_SIZE = 1_000_000_000L;
+
+    @Bean
+    public ShardRouter shardRouter(Environment environment) {
+        return new ShardRouter(
+                urls(environment).size(),
+                environment.getProperty("sharding.strategy", ShardStrategy.class, ShardStrategy.MODULO),
+                environment.getProperty("sharding.range-size", Long.class, DEFAULT_RANGE_SIZE));
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(DataSourceProperties properties,
+                                             Environment environment,
+                                             MeterRegistry meterRegistry,
+                                             ShardRouter shardRouter) {
+        List<String> urls = urls(environment);
+        List<WorkloadRoutingDataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < urls.size(); shard++) {
+            String url = urls.get(shard);
+            WorkloadRoutingDataSource pools = WorkloadDataSourceConfig.workloadDataSource(properties, url,
+                    "-shard" + shard, ShardIdentity.connectionInitSql(url, shardRouter, shard),
+                    environment, meterRegistry);
+            pools.afterPropertiesSet();
+            shards.add(pools);
+        }
+        return new ShardDataSources(urls, shards);
+    }
+
+    @Bean
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources));
+    }
+
+    /**
+     * Hands Hibernate's boot metadata to {@link ShardSchemaInitializer}, which needs it
+     * to create the schema on the shards other than 0
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaIntegrator(ShardSchemaInitializer shardSchemaInitializer) {
+        return properties -> properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(shardSchemaInitializer));
+    }
+
+    private static List<String> urls(Environment environment) {
+        List<String> urls = Binder.get(environment)
+                .bind("sharding.urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("sharding.urls must list one JDBC URL per shard");
+        }
+        return urls;
+    }
+}
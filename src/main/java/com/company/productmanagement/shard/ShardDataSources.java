@@ -0,0 +1,48 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.workload.WorkloadRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * The workload pools of every shard, in shard order
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public final class ShardDataSources implements Closeable {
+
+    private final List<String> urls;
+    private final List<WorkloadRoutingDataSource> shards;
+
+    ShardDataSources(List<String> urls, List<WorkloadRoutingDataSource> shards) {
+        this.urls = List.copyOf(urls);
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * @param shard shard
+     * @return the shard's workload pools
+     */
+    public WorkloadRoutingDataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * @param shard shard
+     * @return JDBC URL of the shard
+     */
+    public String url(int shard) {
+        return urls.get(shard);
+    }
+
+    public int count() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(WorkloadRoutingDataSource::close);
+    }
+}
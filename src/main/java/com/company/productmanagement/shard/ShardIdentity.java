@@ -0,0 +1,79 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shard-aware id generation: sets the identity column of each shard's products table
+ * so it only hands out ids that {@link ShardRouter#shardOf(long)} maps back to that shard.
+ * Ids stay database-generated, so inserts need no id round trip and ids never collide
+ * across shards. Runs at startup and after every rebalance.
+ * On H2 the column gets its own start and increment. MySQL keeps one increment per
+ * server, so shard connections set {@code auto_increment_increment / _offset} per session
+ * (see {@link #connectionInitSql(String, ShardRouter, int)}).
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ShardIdentity {
+
+    private static final String H2 = "jdbc:h2:";
+    private static final String MYSQL = "jdbc:mysql:";
+
+    private final ShardRouter shardRouter;
+    private final ShardDataSources shardDataSources;
+
+    /**
+     * Points the identity column of every shard past its largest id
+     */
+    public void configure() {
+        for (int shard = 0; shard < shardDataSources.count(); shard++) {
+            configure(shard);
+        }
+    }
+
+    private void configure(int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSources.shard(shard).pool(WorkloadClass.WRITE));
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from products", Long.class);
+        long start = shardRouter.identityStart(shard, maxId != null ? maxId : 0);
+        int increment = shardRouter.identityIncrement();
+        if (shardDataSources.url(shard).startsWith(H2)) {
+            jdbcTemplate.execute("alter table products alter column id restart with " + start);
+            jdbcTemplate.execute("alter table products alter column id set increment by " + increment);
+        } else {
+            jdbcTemplate.execute("alter table products auto_increment = " + start);
+        }
+        log.info("Shard {} generates product ids from {} in steps of {}", shard, start, increment);
+    }
+
+    /**
+     * Session settings for connections to one shard
+     * 
+     * @param url JDBC URL of the shard
+     * @param shardRouter id to shard mapping
+     * @param shard shard
+     * @return statement to run on each new connection, null if none is needed
+     * @throws IllegalStateException if the database is neither H2 nor MySQL
+     */
+    static String connectionInitSql(String url, ShardRouter shardRouter, int shard) {
+        if (url.startsWith(H2)) {
+            return null;
+        }
+        if (!url.startsWith(MYSQL)) {
+            throw new IllegalStateException("Sharding supports H2 and MySQL only: " + url);
+        }
+        int increment = shardRouter.identityIncrement();
+        if (increment == 1) {
+            return null;
+        }
+        // MODULO: shard k generates k + 1 + i * N
+        return "set session auto_increment_increment = " + increment + ", auto_increment_offset = " + (shard + 1);
+    }
+}
@@ -0,0 +1,179 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps product names unique across all shards.
+ * Each shard's unique constraint only covers its own rows, so every name in use is also
+ * claimed in the {@code product_names} table on shard 0, whose primary key rejects a second
+ * claim however many instances create or rename products at once.
+ * Claims are committed straight away, ahead of the product write; a claim whose product
+ * write rolls back is released again, and a name given up by a rename or delete is released
+ * only once that write commits.
+ * Registry statements take connections from the read pool: the product write already holds
+ * a write connection, and waiting for a second one from the same pool could exhaust it.
+ *
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ShardNameRegistry {
+
+    static final String TABLE = "product_names";
+
+    private final ShardDataSources shardDataSources;
+
+    /**
+     * Applies the schema action to the registry table, the same one Hibernate applies to the products
+     *
+     * @param action value of {@code hibernate.hbm2ddl.auto}, null for none
+     */
+    void createTable(String action) {
+        if (action == null || !List.of("create", "create-drop", "create-only", "update").contains(action)) {
+            return;
+        }
+        JdbcTemplate jdbc = jdbcTemplate();
+        if (action.startsWith("create")) {
+            jdbc.execute("drop table if exists " + TABLE);
+        }
+        jdbc.execute("create table if not exists " + TABLE
+                + " (name varchar(100) not null primary key, product_id bigint)");
+    }
+
+    /**
+     * Claims the name of a product about to be inserted
+     *
+     * @param name product name
+     * @throws com.company.productmanagement.exception.ApiException if another product holds the name
+     */
+    void claimForInsert(String name) {
+        claim(name, null);
+        onRollback(() -> release(name));
+    }
+
+    /**
+     * Records the id of a product inserted under a name claimed by {@link #claimForInsert(String)}
+     *
+     * @param name product name
+     * @param id generated id
+     */
+    void assign(String name, long id) {
+        jdbcTemplate().update("update " + TABLE + " set product_id = ? where name = ?", id, name);
+    }
+
+    /**
+     * Claims the name of an existing product if it changed, releasing the old one on commit
+     *
+     * @param id product id
+     * @param name name the product is saved with
+     * @return whether the name was newly claimed, so a failed save must release it
+     * @throws com.company.productmanagement.exception.ApiException if another product holds the name
+     */
+    boolean claimForUpdate(long id, String name) {
+        List<String> registered = jdbcTemplate().queryForList(
+                "select name from " + TABLE + " where product_id = ?", String.class, id);
+        if (registered.contains(name)) {
+            return false;
+        }
+        claim(name, id);
+        onRollback(() -> release(name));
+        afterCommit(() -> registered.stream()
+                .filter(old -> !Objects.equals(old, name))
+                .forEach(this::release));
+        return true;
+    }
+
+    /**
+     * Releases the name of a product once its delete commits
+     *
+     * @param id product id
+     */
+    void releaseOnDelete(long id) {
+        afterCommit(() -> jdbcTemplate().update("delete from " + TABLE + " where product_id = ?", id));
+    }
+
+    /**
+     * Registers the name of a product already stored on a shard, as found by a rebalance
+     *
+     * @param name product name
+     * @param id product id
+     */
+    void register(String name, long id) {
+        try {
+            jdbcTemplate().update("insert into " + TABLE + " (name, product_id) values (?, ?)", name, id);
+        } catch (DuplicateKeyException e) {
+            Long holder = jdbcTemplate().queryForObject(
+                    "select product_id from " + TABLE + " where name = ?", Long.class, name);
+            if (holder == null) {
+                assign(name, id);
+            } else if (holder != id) {
+                log.warn("Products {} and {} share the name '{}'; rename one of them", holder, id, name);
+            }
+        }
+    }
+
+    void clear() {
+        jdbcTemplate().update("delete from " + TABLE);
+    }
+
+    private void claim(String name, Long id) {
+        try {
+            jdbcTemplate().update("insert into " + TABLE + " (name, product_id) values (?, ?)", name, id);
+        } catch (DuplicateKeyException e) {
+            throw ApiError.PRODUCT_NAME_TAKEN.exception();
+        }
+    }
+
+    /**
+     * Releases a claimed name whose product was not written
+     *
+     * @param name product name
+     */
+    void release(String name) {
+        jdbcTemplate().update("delete from " + TABLE + " where name = ?", name);
+    }
+
+    private static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(shardDataSources.shard(ShardContext.HOME_SHARD).pool(WorkloadClass.READ));
+    }
+}
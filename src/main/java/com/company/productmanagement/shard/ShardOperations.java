@@ -0,0 +1,79 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.workload.Workload;
+import com.company.productmanagement.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Product queries against one given shard, the building blocks of {@link ShardedProductQueries}.
+ * Each runs with the shard pinned, so the repository call goes straight to it,
+ * and from the pool of its workload class.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ShardOperations {
+
+    private final ProductRepository productRepository;
+
+    @Workload(WorkloadClass.READ)
+    public Slice<Product> findSlice(int shard, Pageable pageable) {
+        return onShard(shard, () -> productRepository.findAllBy(pageable));
+    }
+
+    @Workload(WorkloadClass.READ)
+    public List<Product> findAll(int shard) {
+        return onShard(shard, () -> productRepository.findAll(Sort.by("id")));
+    }
+
+    @Workload(WorkloadClass.READ)
+    public List<Product> findAllById(int shard, List<Long> ids) {
+        return onShard(shard, () -> productRepository.findAllById(ids));
+    }
+
+    @Workload(WorkloadClass.READ)
+    public long count(int shard) {
+        return onShard(shard, productRepository::count);
+    }
+
+    @Workload(WorkloadClass.READ)
+    public boolean existsByName(int shard, String name) {
+        return onShard(shard, () -> productRepository.existsByName(name));
+    }
+
+    @Workload(WorkloadClass.EXPORT)
+    public List<ProductResponse> findResponsesAfter(int shard, long afterId, int batchSize) {
+        return onShard(shard, () -> productRepository.findResponsesAfter(afterId, PageRequest.ofSize(batchSize)));
+    }
+
+    @Workload(WorkloadClass.WRITE)
+    public void deleteAll(int shard) {
+        onShard(shard, () -> {
+            productRepository.deleteAll();
+            return null;
+        });
+    }
+
+    private static <T> T onShard(int shard, Supplier<T> query) {
+        Integer previous = ShardContext.pin(shard);
+        try {
+            return query.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.productmanagement.shard;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Starts a {@code sharding.rebalance=true} run as a command rather than a server:
+ * the servlet context is still built (the security filters depend on it), but the HTTP,
+ * management and gRPC servers never listen, so no request can read or write products
+ * while they are being moved. {@link ShardRebalanceRunner} exits once it is done
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public class ShardRebalanceEnvironment implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "shardRebalance";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("sharding.enabled", Boolean.class, false)
+                && environment.getProperty("sharding.rebalance", Boolean.class, false)) {
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE, Map.of(
+                    "server.port", "-1",
+                    "management.server.port", "-1",
+                    "grpc.enabled", "false")));
+        }
+    }
+}
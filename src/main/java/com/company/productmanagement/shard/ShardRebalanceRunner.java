@@ -0,0 +1,37 @@
+package com.company.productmanagement.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link ShardRebalancer} when {@code sharding.rebalance=true}, then exits.
+ * The application is started without its servers (see {@link ShardRebalanceEnvironment}),
+ * so the rebalance never runs next to live traffic
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "sharding", name = {"enabled", "rebalance"}, havingValue = "true")
+@RequiredArgsConstructor
+public class ShardRebalanceRunner implements ApplicationRunner {
+
+    private final ShardRebalancer shardRebalancer;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (applicationContext instanceof WebServerApplicationContext web && web.getWebServer().getPort() >= 0
+                || applicationContext.getEnvironment().getProperty("grpc.enabled", Boolean.class, true)) {
+            throw new IllegalStateException("Shard rebalance must run without the web and gRPC servers");
+        }
+        shardRebalancer.rebalance();
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
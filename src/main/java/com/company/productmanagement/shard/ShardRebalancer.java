@@ -0,0 +1,110 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.workload.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Moves every product to the shard that owns its id under the current sharding settings,
+ * after shards were added or the strategy changed.
+ * Meant to run offline, with no other instance writing: each shard is scanned by id in
+ * batches, misplaced rows are copied to their shard and then deleted from the old one.
+ * Copies replace rows with the same id, so a rebalance stopped halfway can simply be run again.
+ * Every name seen is registered in {@link ShardNameRegistry}, which fills the registry for a
+ * catalog stored before it existed.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private static final String COLUMNS = "id, name, description, price, quantity, created_at, updated_at";
+
+    private final ShardRouter shardRouter;
+    private final ShardDataSources shardDataSources;
+    private final ShardIdentity shardIdentity;
+    private final ShardNameRegistry shardNameRegistry;
+
+    @Value("${sharding.rebalance-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * @return number of products moved
+     */
+    public long rebalance() {
+        long moved = 0;
+        for (int shard = 0; shard < shardDataSources.count(); shard++) {
+            moved += rebalance(shard);
+        }
+        shardIdentity.configure();
+        log.info("Rebalanced {} shards with {}, moved {} products",
+                shardDataSources.count(), shardRouter.getStrategy(), moved);
+        return moved;
+    }
+
+    private long rebalance(int source) {
+        JdbcTemplate sourceJdbc = jdbcTemplate(source);
+        long moved = 0;
+        long afterId = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = sourceJdbc.queryForList("select " + COLUMNS + " from products where id > ? order by id limit ?",
+                    afterId, batchSize);
+            Map<Integer, List<Object[]>> misplaced = new HashMap<>();
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                shardNameRegistry.register((String) row.get("name"), id);
+                int target = shardRouter.shardOf(id);
+                if (target != source) {
+                    misplaced.computeIfAbsent(target, key -> new ArrayList<>()).add(new Object[] {
+                            id, row.get("name"), row.get("description"), row.get("price"),
+                            row.get("quantity"), row.get("created_at"), row.get("updated_at")});
+                }
+                afterId = id;
+            }
+            for (Map.Entry<Integer, List<Object[]>> entry : misplaced.entrySet()) {
+                move(source, entry.getKey(), entry.getValue());
+                moved += entry.getValue().size();
+            }
+        } while (rows.size() == batchSize);
+        if (moved > 0) {
+            log.info("Moved {} products off shard {}", moved, source);
+        }
+        return moved;
+    }
+
+    private void move(int source, int target, List<Object[]> rows) {
+        List<Object[]> ids = rows.stream().map(row -> new Object[] {row[0]}).toList();
+        inTransaction(target, jdbc -> {
+            jdbc.batchUpdate("delete from products where id = ?", ids);
+            jdbc.batchUpdate("insert into products (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        inTransaction(source, jdbc -> jdbc.batchUpdate("delete from products where id = ?", ids));
+    }
+
+    private void inTransaction(int shard, Consumer<JdbcTemplate> work) {
+        DataSource dataSource = shardDataSources.shard(shard).pool(WorkloadClass.WRITE);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+                .executeWithoutResult(status -> work.accept(new JdbcTemplate(dataSource)));
+    }
+
+    private JdbcTemplate jdbcTemplate(int shard) {
+        return new JdbcTemplate(shardDataSources.shard(shard).pool(WorkloadClass.WRITE));
+    }
+}
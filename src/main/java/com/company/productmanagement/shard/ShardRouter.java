@@ -0,0 +1,67 @@
+package com.company.productmanagement.shard;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps product ids to shards and picks the shard for each new product
+ * New products go to the shards in turn; the shard's identity column then
+ * generates an id that {@link #shardOf(long)} maps back to it
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Getter
+public final class ShardRouter {
+
+    private final int shardCount;
+    private final ShardStrategy strategy;
+    private final long rangeSize;
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger nextInsert = new AtomicInteger();
+
+    public ShardRouter(int shardCount, ShardStrategy strategy, long rangeSize) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("sharding.range-size must be positive");
+        }
+        this.shardCount = shardCount;
+        this.strategy = strategy;
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * @param id product id
+     * @return shard holding the product
+     */
+    public int shardOf(long id) {
+        return strategy.shardOf(id, shardCount, rangeSize);
+    }
+
+    /**
+     * @return shard for the next new product
+     */
+    public int nextInsertShard() {
+        return Math.floorMod(nextInsert.getAndIncrement(), shardCount);
+    }
+
+    /**
+     * @param shard shard
+     * @param maxId largest id already on the shard, 0 if empty
+     * @return next id the shard's identity column must hand out
+     */
+    public long identityStart(int shard, long maxId) {
+        return strategy.identityStart(shard, maxId, shardCount, rangeSize);
+    }
+
+    /**
+     * @return step between ids generated by one shard
+     */
+    public int identityIncrement() {
+        return strategy.identityIncrement(shardCount);
+    }
+}
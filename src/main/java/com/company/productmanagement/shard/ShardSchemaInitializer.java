@@ -0,0 +1,63 @@
+package com.company.productmanagement.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@code spring.jpa.hibernate.ddl-auto} to every shard, not only to shard 0 where
+ * Hibernate runs it itself, and to the {@link ShardNameRegistry} table on shard 0,
+ * then sets up id generation through {@link ShardIdentity}.
+ * Runs once all beans exist and before the application takes requests.
+ * Drops for create-drop are not repeated on the extra shards at shutdown.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@ConditionalOnSharding
+@RequiredArgsConstructor
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+
+    private final ShardRouter shardRouter;
+    private final ShardIdentity shardIdentity;
+    private final ShardNameRegistry shardNameRegistry;
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // nothing to release
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            if (shard == ShardContext.HOME_SHARD) {
+                continue;
+            }
+            Integer previous = ShardContext.pin(shard);
+            try {
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                        sessionFactory.getProperties(), action -> { });
+            } finally {
+                ShardContext.restore(previous);
+            }
+        }
+        shardNameRegistry.createTable((String) sessionFactory.getProperties().get(AvailableSettings.HBM2DDL_AUTO));
+        shardIdentity.configure();
+    }
+}
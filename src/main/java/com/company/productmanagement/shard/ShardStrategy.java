@@ -0,0 +1,78 @@
+package com.company.productmanagement.shard;
+
+/**
+ * How product ids map to shards, and which ids each shard's identity column hands out
+ * so that every generated id maps back to the shard that generated it.
+ * Shards are numbered from 0; ids start at 1.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public enum ShardStrategy {
+
+    /**
+     * Shard k holds ids with (id - 1) mod N == k, so consecutive ids land on different shards
+     * and load spreads evenly. Shard k generates k + 1, k + 1 + N, k + 1 + 2N, ...
+     */
+    MODULO {
+        @Override
+        int shardOf(long id, int shards, long rangeSize) {
+            return (int) Math.floorMod(id - 1, (long) shards);
+        }
+
+        @Override
+        long identityStart(int shard, long maxId, int shards, long rangeSize) {
+            long base = Math.max(maxId, 0);
+            return base + 1 + Math.floorMod(shard - base, (long) shards);
+        }
+
+        @Override
+        int identityIncrement(int shards) {
+            return shards;
+        }
+    },
+
+    /**
+     * Shard k holds ids k * range-size + 1 to (k + 1) * range-size; the last shard also
+     * holds everything above. Id ranges can be scanned on a single shard.
+     */
+    RANGE {
+        @Override
+        int shardOf(long id, int shards, long rangeSize) {
+            return id <= 0 ? 0 : (int) Math.min((id - 1) / rangeSize, shards - 1);
+        }
+
+        @Override
+        long identityStart(int shard, long maxId, int shards, long rangeSize) {
+            return Math.max(shard * rangeSize + 1, maxId + 1);
+        }
+
+        @Override
+        int identityIncrement(int shards) {
+            return 1;
+        }
+    };
+
+    /**
+     * @param id product id
+     * @param shards number of shards
+     * @param rangeSize ids per shard, used by {@link #RANGE}
+     * @return shard holding the product
+     */
+    abstract int shardOf(long id, int shards, long rangeSize);
+
+    /**
+     * @param shard shard
+     * @param maxId largest id already on the shard, 0 if empty
+     * @param shards number of shards
+     * @param rangeSize ids per shard, used by {@link #RANGE}
+     * @return next id the shard's identity column must hand out
+     */
+    abstract long identityStart(int shard, long maxId, int shards, long rangeSize);
+
+    /**
+     * @param shards number of shards
+     * @return step between ids generated by one shard
+     */
+    abstract int identityIncrement(int shards);
+}
@@ -0,0 +1,333 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.exception.ApiError;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Product queries that span all shards.
+ * Every shard is queried in parallel on virtual threads and the results are merged:
+ * a page takes the first offset + size rows of each shard in the requested order and
+ * merges them, an export walks every shard by id in keyset batches and merges the
+ * batches as they arrive. The request (and its deadline) is carried over to each shard query.
+ * Since every shard reads offset + size rows, pages deeper than {@code sharding.max-page-depth}
+ * are rejected; text sorts are rejected as well, see {@link #comparator(Sort)}.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Component
+@ConditionalOnSharding
+public class ShardedProductQueries implements DisposableBean {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ShardRouter shardRouter;
+    private final ShardOperations shardOperations;
+    private final int scanBatchSize;
+    private final long maxPageDepth;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardedProductQueries(ShardRouter shardRouter,
+                                 ShardOperations shardOperations,
+                                 @Value("${sharding.scan-batch-size:500}") int scanBatchSize,
+                                 @Value("${sharding.max-page-depth:10000}") long maxPageDepth) {
+        this.shardRouter = shardRouter;
+        this.shardOperations = shardOperations;
+        this.scanBatchSize = scanBatchSize;
+        this.maxPageDepth = maxPageDepth;
+    }
+
+    public long count() {
+        return onEveryShard(shardOperations::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    public boolean existsByName(String name) {
+        return onEveryShard(shard -> shardOperations.existsByName(shard, name)).contains(true);
+    }
+
+    /**
+     * @param ids product ids
+     * @return the products found, each shard asked only for its own ids
+     */
+    public List<Product> findAllById(Iterable<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long id : ids) {
+            idsByShard.computeIfAbsent(shardRouter.shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        List<CompletableFuture<List<Product>>> futures = idsByShard.entrySet().stream()
+                .map(entry -> submit(() -> shardOperations.findAllById(entry.getKey(), entry.getValue())))
+                .toList();
+        return futures.stream().flatMap(future -> join(future).stream()).toList();
+    }
+
+    /**
+     * @return all products ordered by id
+     */
+    public List<Product> findAll() {
+        List<Product> products = new ArrayList<>();
+        onEveryShard(shardOperations::findAll).forEach(products::addAll);
+        products.sort(comparator(BY_ID));
+        return products;
+    }
+
+    /**
+     * @param pageable page request
+     * @return one page in the requested order, without a total
+     */
+    public Slice<Product> findSlice(Pageable pageable) {
+        List<Slice<Product>> tops = firstRowsOfEveryShard(pageable);
+        List<Product> content = mergePage(tops, pageable);
+        boolean hasNext = tops.stream().anyMatch(Slice::hasNext)
+                || tops.stream().mapToLong(top -> top.getContent().size()).sum() > pageable.getOffset() + pageable.getPageSize();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * @param pageable page request
+     * @return one page in the requested order, with the total over all shards
+     */
+    public Page<Product> findPage(Pageable pageable) {
+        CompletableFuture<Long> total = submit(this::count);
+        List<Product> content = mergePage(firstRowsOfEveryShard(pageable), pageable);
+        return new PageImpl<>(content, pageable, join(total));
+    }
+
+    /**
+     * All products ordered by id, read from every shard in keyset batches of
+     * {@code sharding.scan-batch-size}. Each shard fetches its next batch while the
+     * current one is consumed, so no shard gets more than one batch ahead of the reader.
+     * 
+     * @return ordered stream; close it to stop the scans
+     */
+    public Stream<ProductResponse> streamAll() {
+        List<ShardCursor> cursors = IntStream.range(0, shardRouter.getShardCount())
+                .mapToObj(ShardCursor::new)
+                .toList();
+        Iterator<ProductResponse> merged = new MergingIterator(cursors);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> cursors.forEach(ShardCursor::close));
+    }
+
+    public void deleteAll() {
+        onEveryShard(shard -> {
+            shardOperations.deleteAll(shard);
+            return null;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private List<Slice<Product>> firstRowsOfEveryShard(Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > maxPageDepth) {
+            throw ApiError.PAGE_TOO_DEEP.exception();
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            PropertyDescriptor property = BeanUtils.getPropertyDescriptor(Product.class, order.getProperty());
+            if (property != null && CharSequence.class.isAssignableFrom(property.getPropertyType())) {
+                throw ApiError.SORT_NOT_SHARDABLE.exception();
+            }
+        }
+        // ties broken by id on the shards as in the merge, so a shard never cuts off a row of the page
+        Sort sort = pageable.getSort().getOrderFor("id") != null ? pageable.getSort() : pageable.getSort().and(BY_ID);
+        Pageable top = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), sort);
+        return onEveryShard(shard -> shardOperations.findSlice(shard, top));
+    }
+
+    private static List<Product> mergePage(List<Slice<Product>> tops, Pageable pageable) {
+        List<Product> merged = new ArrayList<>();
+        tops.forEach(top -> merged.addAll(top.getContent()));
+        merged.sort(comparator(pageable.getSort().isSorted() ? pageable.getSort() : BY_ID));
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return List.copyOf(merged.subList(from, to));
+    }
+
+    /**
+     * Same order as the shards' ORDER BY, ties broken by id.
+     * Only numbers and timestamps are merged here: the database orders text by its collation
+     * (case- and accent-insensitive on MySQL), which Java string order does not reproduce,
+     * so pages sorted by a text property are rejected before any shard is queried
+     * 
+     * @param sort requested order
+     * @return comparator over products
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<Product> comparator(Sort sort) {
+        Comparator<Product> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Comparable> values = order.isAscending()
+                    ? Comparator.nullsFirst(Comparator.<Comparable>naturalOrder())
+                    : Comparator.nullsLast(Comparator.<Comparable>reverseOrder());
+            comparator = comparator.thenComparing(product -> property(product, order), values);
+        }
+        return comparator.thenComparing(Product::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable property(Product product, Sort.Order order) {
+        BeanWrapper bean = PropertyAccessorFactory.forBeanPropertyAccess(product);
+        Object value = bean.getPropertyValue(order.getProperty());
+        if (order.isIgnoreCase() && value instanceof String text) {
+            return text.toLowerCase();
+        }
+        return (Comparable) value;
+    }
+
+    private <T> List<T> onEveryShard(IntFunction<T> query) {
+        List<CompletableFuture<T>> futures = IntStream.range(0, shardRouter.getShardCount())
+                .mapToObj(shard -> submit(() -> query.apply(shard)))
+                .toList();
+        return futures.stream().map(ShardedProductQueries::join).toList();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(request);
+            try {
+                return query.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Walks one shard in id order, one batch ahead of the reader
+     */
+    private final class ShardCursor {
+
+        private final int shard;
+        private Iterator<ProductResponse> batch = Collections.emptyIterator();
+        private CompletableFuture<List<ProductResponse>> nextBatch;
+
+        ShardCursor(int shard) {
+            this.shard = shard;
+            this.nextBatch = fetchAfter(0);
+        }
+
+        /**
+         * @return the shard's next product, null once the shard is exhausted
+         */
+        ProductResponse next() {
+            if (!batch.hasNext()) {
+                if (nextBatch == null) {
+                    return null;
+                }
+                List<ProductResponse> rows = join(nextBatch);
+                nextBatch = rows.size() < scanBatchSize ? null : fetchAfter(rows.get(rows.size() - 1).id());
+                batch = rows.iterator();
+                if (!batch.hasNext()) {
+                    return null;
+                }
+            }
+            return batch.next();
+        }
+
+        void close() {
+            if (nextBatch != null) {
+                nextBatch.cancel(false);
+            }
+        }
+
+        private CompletableFuture<List<ProductResponse>> fetchAfter(long afterId) {
+            return submit(() -> shardOperations.findResponsesAfter(shard, afterId, scanBatchSize));
+        }
+    }
+
+    /**
+     * K-way merge of the shard cursors by id
+     */
+    private static final class MergingIterator implements Iterator<ProductResponse> {
+
+        private record Head(ProductResponse product, ShardCursor cursor) {
+        }
+
+        private final List<ShardCursor> cursors;
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(head -> head.product().id()));
+        private boolean started;
+
+        MergingIterator(List<ShardCursor> cursors) {
+            this.cursors = cursors;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                cursors.forEach(this::advance);
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public ProductResponse next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            advance(head.cursor());
+            return head.product();
+        }
+
+        private void advance(ShardCursor cursor) {
+            ProductResponse product = cursor.next();
+            if (product != null) {
+                heads.add(new Head(product, cursor));
+            }
+        }
+    }
+}
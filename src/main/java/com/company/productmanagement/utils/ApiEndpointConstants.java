@@ -23,6 +23,31 @@ public final class ApiEndpointConstants {
     // Product Endpoints
     public static final String PRODUCT = API_BASE + "/products";
     public static final String PRODUCT_BY_ID = PRODUCT+ "/{id}";
+    public static final String PRODUCT_STREAM = PRODUCT+ "/stream";
+    public static final String PRODUCT_BATCH_GET = PRODUCT+ "/batch-get";
+    
+    // Prometheus scrape: open on management.server.port, ADMIN only on the API port
+    public static final String PROMETHEUS = "/actuator/prometheus";
+    
+    // Rate-limit groups: each user (or client IP when anonymous) has one quota per group,
+    // sized under rate-limit.<group> in application.yaml
+    public static final String[] RATE_LIMIT_AUTH_ENDPOINTS = {
+        AUTH + "/**"
+    };
+    public static final String[] RATE_LIMIT_PRODUCT_ENDPOINTS = {
+        PRODUCT,
+        PRODUCT + "/**"
+    };
+    
+    // Adaptive concurrency limit: writes and exports are shed before reads;
+    // these POSTs are reads and count as interactive
+    public static final String[] CONCURRENCY_LIMIT_ENDPOINTS = {
+        PRODUCT,
+        PRODUCT + "/**"
+    };
+    public static final String[] CONCURRENCY_LIMIT_INTERACTIVE_POSTS = {
+        PRODUCT_BATCH_GET
+    };
     
     // Public endpoints (no authentication required)
     public static final String[] PUBLIC_ENDPOINTS = {
@@ -32,6 +57,7 @@ public final class ApiEndpointConstants {
         "/swagger-ui/**",
         "/swagger-ui/index.html",
         "/api-docs/**",
-        "/v3/api-docs/**"
+        "/v3/api-docs/**",
+        "/actuator/health"
     };
 }
@@ -0,0 +1,22 @@
+package com.company.productmanagement.utils;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Central repository for the media types the API negotiates besides JSON.
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public final class ApiMediaTypes {
+    
+    private ApiMediaTypes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+    
+    // Binary encodings for service-to-service traffic
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+}
@@ -1,5 +1,7 @@
 package com.company.productmanagement.utils;
 
+import com.company.productmanagement.jfr.JwtVerificationEvent;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
@@ -138,12 +140,21 @@ public class JwtUtils {
      * @return all claims
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        try {
+            Claims claims = Jwts
+                    .parser()
+                    .verifyWith(getSignInKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            event.subject = claims.getSubject();
+            event.valid = true;
+            return claims;
+        } finally {
+            event.commit();
+        }
     }
     
     /**
@@ -0,0 +1,23 @@
+package com.company.productmanagement.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the connection pool used by a service method, or by every method of a
+ * service class. A method annotation overrides the class one.
+ * Only the outermost annotated call counts once a transaction holds a connection
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadClass value();
+}
@@ -0,0 +1,46 @@
+package com.company.productmanagement.workload;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Sets the {@link WorkloadClass} of the current thread around {@link Workload} methods.
+ * Runs ahead of the transaction advice, so the transaction's connection comes from
+ * the matching pool
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class WorkloadAspect {
+
+    @Around("@within(com.company.productmanagement.workload.Workload)"
+            + " || @annotation(com.company.productmanagement.workload.Workload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        WorkloadClass previous = WorkloadContext.set(workloadOf(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static WorkloadClass workloadOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        }
+        return workload != null ? workload.value() : WorkloadClass.READ;
+    }
+}
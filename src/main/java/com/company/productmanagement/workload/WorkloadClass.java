@@ -0,0 +1,30 @@
+package com.company.productmanagement.workload;
+
+import java.util.Locale;
+
+/**
+ * Kinds of database work that get their own connection pool
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public enum WorkloadClass {
+
+    /** Principal lookups, login and registration */
+    AUTH,
+    /** Interactive product reads; also the default for unannotated work */
+    READ,
+    /** Product writes */
+    WRITE,
+    /** Long-running streamed exports */
+    EXPORT;
+
+    /**
+     * Lower-case name used in pool names and property keys
+     * 
+     * @return e.g. "auth"
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.productmanagement.workload;
+
+/**
+ * Workload class of the current thread, read when a connection is taken
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @return the current workload, null outside of {@link Workload} methods
+     */
+    static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param workload workload to switch to
+     * @return the previous workload, to pass to {@link #restore(WorkloadClass)}
+     */
+    static WorkloadClass set(WorkloadClass workload) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(WorkloadClass previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
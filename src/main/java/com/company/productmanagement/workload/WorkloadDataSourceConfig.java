@@ -0,0 +1,92 @@
+package com.company.productmanagement.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per {@link WorkloadClass} behind a single routing DataSource,
+ * so a long export or a burst of writes cannot take the connections logins need.
+ * Pools share the {@code spring.datasource} URL and credentials and are sized under
+ * {@code datasource.pools.<workload>}. Each publishes hikaricp.* metrics tagged
+ * pool=workload-&lt;workload&gt; (active, pending, acquire time, timeouts).
+ * The routing DataSource is wrapped by {@link com.company.productmanagement.config.DataSourceProxyConfig}
+ * like any other, so statement counting covers every pool.
+ * With {@code sharding.enabled} each shard gets its own set of these pools instead
+ * (see {@link com.company.productmanagement.shard.ShardDataSourceConfig}).
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+@Configuration
+public class WorkloadDataSourceConfig {
+
+    private static final Map<WorkloadClass, Integer> DEFAULT_SIZES = Map.of(
+            WorkloadClass.AUTH, 5,
+            WorkloadClass.READ, 10,
+            WorkloadClass.WRITE, 5,
+            WorkloadClass.EXPORT, 2);
+
+    private static final Map<WorkloadClass, Duration> DEFAULT_TIMEOUTS = Map.of(
+            WorkloadClass.AUTH, Duration.ofSeconds(1),
+            WorkloadClass.READ, Duration.ofSeconds(2),
+            WorkloadClass.WRITE, Duration.ofSeconds(5),
+            WorkloadClass.EXPORT, Duration.ofSeconds(10));
+
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry) {
+        return workloadDataSource(properties, properties.determineUrl(), "", null, environment, meterRegistry);
+    }
+
+    /**
+     * Builds the workload pools for one database
+     * Also used for each shard when products are sharded
+     * 
+     * @param properties spring.datasource settings (driver and credentials)
+     * @param url JDBC URL of the database
+     * @param poolSuffix appended to each pool name, empty for the single database
+     * @param connectionInitSql statement run on every new connection, null for none
+     * @param environment pool sizes and timeouts
+     * @param meterRegistry registry for hikaricp.* metrics
+     * @return routing DataSource over the pools
+     */
+    public static WorkloadRoutingDataSource workloadDataSource(DataSourceProperties properties,
+                                                               String url,
+                                                               String poolSuffix,
+                                                               String connectionInitSql,
+                                                               Environment environment,
+                                                               MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            String prefix = "datasource.pools." + workload.key() + ".";
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                    .url(url)
+                    .type(HikariDataSource.class)
+                    .build();
+            pool.setPoolName("workload-" + workload.key() + poolSuffix);
+            pool.setConnectionInitSql(connectionInitSql);
+            pool.setMaximumPoolSize(environment.getProperty(
+                    prefix + "maximum-pool-size", Integer.class, DEFAULT_SIZES.get(workload)));
+            pool.setMinimumIdle(environment.getProperty(prefix + "minimum-idle", Integer.class, 1));
+            pool.setConnectionTimeout(environment.getProperty(
+                    prefix + "connection-timeout", Duration.class, DEFAULT_TIMEOUTS.get(workload)).toMillis());
+            pool.setMetricsTrackerFactory(metrics);
+            pools.put(workload, pool);
+        }
+        return new WorkloadRoutingDataSource(pools);
+    }
+}
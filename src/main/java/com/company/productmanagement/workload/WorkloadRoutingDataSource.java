@@ -0,0 +1,47 @@
+package com.company.productmanagement.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource that hands out connections from the pool of the current {@link WorkloadClass}.
+ * Work outside of {@link Workload} methods (schema setup, tests, jobs) uses the read pool
+ * 
+ * @author Shruti Sharma
+ * @version 1.0
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<WorkloadClass, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<WorkloadClass, HikariDataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        setTargetDataSources(new HashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(WorkloadClass.READ));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        WorkloadClass workload = WorkloadContext.current();
+        return workload != null ? workload : WorkloadClass.READ;
+    }
+
+    /**
+     * @param workload workload class
+     * @return the pool serving it
+     */
+    public HikariDataSource pool(WorkloadClass workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
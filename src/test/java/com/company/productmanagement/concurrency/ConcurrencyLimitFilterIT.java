@@ -0,0 +1,137 @@
+package com.company.productmanagement.concurrency;
+
+import com.company.productmanagement.concurrency.ConcurrencyLimiter.Priority;
+import com.company.productmanagement.dto.product.ProductRequest;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ConcurrencyLimitFilter
+ * Pins the limit at 2 and occupies slots directly, so no test needs real concurrency
+ */
+@SpringBootTest(properties = {
+        "concurrency-limit.enabled=true",
+        "concurrency-limit.initial-limit=2",
+        "concurrency-limit.min-limit=2",
+        "concurrency-limit.max-limit=2",
+        "concurrency-limit.bulk-share=0.5"
+})
+class ConcurrencyLimitFilterIT {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ConcurrencyLimiter limiter;
+
+    private MockMvc mockMvc;
+
+    private int held;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @AfterEach
+    void releaseHeldSlots() {
+        for (; held > 0; held--) {
+            limiter.releaseWithoutSample();
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldShedWritesBeforeReads() throws Exception {
+        hold();
+        String body = objectMapper.writeValueAsString(
+                new ProductRequest("Shed Product", "Description", new BigDecimal("9.99"), 1));
+
+        mockMvc.perform(post(ApiEndpointConstants.PRODUCT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.code").value("g-5"));
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)).andExpect(status().isOk());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldShedReadsOnceLimitIsReached() throws Exception {
+        hold();
+        hold();
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("g-5"));
+    }
+
+    @Test
+    void shouldNotLimitAuthEndpoints() throws Exception {
+        hold();
+        hold();
+
+        mockMvc.perform(get(ApiEndpointConstants.AUTH_LOGIN))
+                .andExpect(result -> assertNotEquals(503, result.getResponse().getStatus()));
+    }
+
+    @Test
+    void shouldNotGiveSlotsToAnonymousRequests() throws Exception {
+        hold();
+        hold();
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT))
+                .andExpect(result -> assertNotEquals(503, result.getResponse().getStatus()));
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldHoldExportSlotUntilStreamCompletes() throws Exception {
+        MvcResult export = mockMvc.perform(get(ApiEndpointConstants.PRODUCT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, limiter.getInFlight());
+
+        mockMvc.perform(asyncDispatch(export)).andExpect(status().isOk());
+        export.getRequest().getAsyncContext().complete();
+
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private void hold() {
+        limiter.tryAcquire(Priority.INTERACTIVE);
+        held++;
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.productmanagement.concurrency;
+
+import com.company.productmanagement.concurrency.ConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConcurrencyLimiter
+ * Uses a fixed limit of 4 with half of it open to bulk requests
+ */
+class ConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 4, 4, 0.2, 1.5, 600, 0.5, meterRegistry);
+
+    @Test
+    void shouldAdmitInteractiveRequestsUpToLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(Priority.INTERACTIVE), "request " + i);
+        }
+
+        assertFalse(limiter.tryAcquire(Priority.INTERACTIVE));
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("concurrency.rejected").tag("priority", "interactive").counter().count());
+    }
+
+    @Test
+    void shouldShedBulkRequestsBeforeInteractiveOnes() {
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+
+        assertFalse(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.INTERACTIVE));
+        assertEquals(1.0, meterRegistry.get("concurrency.rejected").tag("priority", "bulk").counter().count());
+    }
+
+    @Test
+    void shouldFreeSlotOnRelease() {
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(Priority.INTERACTIVE);
+        }
+
+        limiter.release(1_000_000);
+        limiter.releaseWithoutSample();
+
+        assertEquals(2, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire(Priority.INTERACTIVE));
+        assertEquals(3.0, meterRegistry.get("concurrency.inflight").gauge().value());
+        assertEquals(4.0, meterRegistry.get("concurrency.limit").gauge().value());
+    }
+}
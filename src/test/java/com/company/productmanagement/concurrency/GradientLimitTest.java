@@ -0,0 +1,73 @@
+package com.company.productmanagement.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GradientLimit
+ * Feeds synthetic latency samples, so no test depends on the wall clock
+ */
+class GradientLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final GradientLimit limit = new GradientLimit(20, 4, 200, 0.2, 1.5, 600);
+
+    @Test
+    void shouldGrowWhileLatencyIsSteadyAndLimitIsUsed() {
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.get());
+        }
+
+        assertTrue(limit.get() > 20, "limit " + limit.get());
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, limit.get());
+        }
+        int before = limit.get();
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(SLOW, limit.get());
+        }
+
+        assertTrue(limit.get() < before / 2, before + " -> " + limit.get());
+    }
+
+    @Test
+    void shouldNotGrowWhenMostOfTheLimitIsUnused() {
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 2);
+        }
+
+        assertEquals(20, limit.get());
+    }
+
+    @Test
+    void shouldStayWithinBounds() {
+        for (int i = 0; i < 10_000; i++) {
+            limit.onSample(FAST, limit.get());
+        }
+        assertEquals(200, limit.get());
+
+        // a lasting slowdown becomes the new baseline, so only a short one drives the limit down
+        GradientLimit floored = new GradientLimit(20, 10, 200, 0.2, 1.5, 600);
+        floored.onSample(FAST, 20);
+        for (int i = 0; i < 200; i++) {
+            floored.onSample(SLOW * 100, floored.get());
+        }
+        assertEquals(10, floored.get());
+    }
+
+    @Test
+    void shouldRejectInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(2, 4, 200, 0.2, 1.5, 600));
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(20, 4, 200, 0, 1.5, 600));
+    }
+}
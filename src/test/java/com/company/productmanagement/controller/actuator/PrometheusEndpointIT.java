@@ -0,0 +1,91 @@
+package com.company.productmanagement.controller.actuator;
+
+import com.company.productmanagement.dto.product.ProductRequest;
+import com.company.productmanagement.service.ProductService;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint
+ * Checks the endpoint is open on the management port, admin-only on the API port,
+ * and exposes the service, repository, auth and error metrics
+ */
+@SpringBootTest(properties = "local.management.port=" + PrometheusEndpointIT.MANAGEMENT_PORT)
+@AutoConfigureObservability(tracing = false)
+@Transactional
+class PrometheusEndpointIT {
+
+    static final int MANAGEMENT_PORT = 18081;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ProductService productService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldExposeApplicationMetrics() throws Exception {
+        productService.createProduct(new ProductRequest("Metered", "Desc", new BigDecimal("10.0"), 1));
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/" + Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(ApiEndpointConstants.PROMETHEUS))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("product_service_seconds_count{")))
+                .andExpect(content().string(containsString("method=\"createProduct\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count{")))
+                .andExpect(content().string(containsString("api_errors_total{")))
+                .andExpect(content().string(containsString("code=\"pdm-1\"")))
+                .andExpect(content().string(containsString("auth_jwt_requests_total{")))
+                .andExpect(content().string(containsString("auth_password_seconds_count{")));
+    }
+
+    @Test
+    void shouldServeScrapeWithoutTokenOnManagementPort() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PROMETHEUS).with(request -> {
+                    request.setLocalPort(MANAGEMENT_PORT);
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRequireTokenForScrapeOnApiPort() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PROMETHEUS))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldRequireAdminForScrapeOnApiPort() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PROMETHEUS))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -152,5 +153,36 @@ class AuthControllerIT {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.code").value("a-5"));
     }
-}
 
+    @Test
+    void shouldLockOutUsernameAfterRepeatedFailures() throws Exception {
+
+        RegisterRequest registerRequest = new RegisterRequest(
+                "loginuser3",
+                "Password123",
+                "loginuser3@example.com"
+        );
+
+        mockMvc.perform(post(ApiEndpointConstants.AUTH_REGISTER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        String wrongPassword = objectMapper.writeValueAsString(new LoginRequest("loginuser3", "WrongPassword"));
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(post(ApiEndpointConstants.AUTH_LOGIN)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(wrongPassword))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.code").value("a-1"));
+        }
+
+        // locked out: even the right password is rejected before it is checked
+        mockMvc.perform(post(ApiEndpointConstants.AUTH_LOGIN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("loginuser3", "Password123"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("a-7"));
+    }
+}
@@ -4,11 +4,14 @@ import com.company.productmanagement.controller.AuthController;
 import com.company.productmanagement.dto.auth.AuthResponse;
 import com.company.productmanagement.dto.auth.LoginRequest;
 import com.company.productmanagement.dto.auth.RegisterRequest;
+import com.company.productmanagement.concurrency.ConcurrencyLimitFilter;
+import com.company.productmanagement.ratelimit.RateLimitFilter;
 import com.company.productmanagement.service.AuthService;
 import com.company.productmanagement.security.JwtAuthenticationFilter;
 import com.company.productmanagement.utils.ApiEndpointConstants;
 import com.company.productmanagement.utils.JwtUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -26,6 +29,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 
@@ -34,6 +38,7 @@ import org.springframework.security.core.AuthenticationException;
  */
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 class AuthControllerTest {
 
         @Autowired
@@ -51,6 +56,12 @@ class AuthControllerTest {
         @MockBean
         private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+        @MockBean
+        private RateLimitFilter rateLimitFilter;
+
+        @MockBean
+        private ConcurrencyLimitFilter concurrencyLimitFilter;
+
         @MockBean
         private UserDetailsService userDetailsService;
 
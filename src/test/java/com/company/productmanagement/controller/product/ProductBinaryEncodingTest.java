@@ -0,0 +1,47 @@
+package com.company.productmanagement.controller.product;
+
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the binary encodings negotiated by ProductController
+ * round-trip products exactly and stay smaller than JSON
+ */
+class ProductBinaryEncodingTest {
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    private final List<ProductResponse> products = IntStream.range(0, 20)
+            .mapToObj(i -> new ProductResponse((long) i, "Product " + i, "Description of product " + i,
+                    new BigDecimal("1234.50").add(BigDecimal.valueOf(i)), i * 3,
+                    LocalDateTime.of(2025, 1, 19, 10, 0), LocalDateTime.of(2025, 1, 20, 10, 0)))
+            .toList();
+
+    @Test
+    void shouldRoundTripPricesWithScale() throws Exception {
+        ProductResponse product = products.get(0);
+
+        assertEquals(product, cborMapper.readValue(cborMapper.writeValueAsBytes(product), ProductResponse.class));
+        assertEquals(product, smileMapper.readValue(smileMapper.writeValueAsBytes(product), ProductResponse.class));
+    }
+
+    @Test
+    void shouldEncodePagesSmallerThanJson() throws Exception {
+        int json = jsonMapper.writeValueAsBytes(products).length;
+
+        assertTrue(cborMapper.writeValueAsBytes(products).length < json);
+        assertTrue(smileMapper.writeValueAsBytes(products).length < json);
+    }
+}
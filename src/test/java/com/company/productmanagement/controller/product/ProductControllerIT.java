@@ -1,14 +1,18 @@
 package com.company.productmanagement.controller.product;
 
+import com.company.productmanagement.cache.CatalogVersion;
+import com.company.productmanagement.dto.product.ProductBatchGetRequest;
 import com.company.productmanagement.dto.product.ProductRequest;
 import com.company.productmanagement.entity.Product;
 import com.company.productmanagement.repository.ProductRepository;
 import com.company.productmanagement.utils.ApiEndpointConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,7 +22,9 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static com.company.productmanagement.support.QueryCountAssertions.assertMaxQueries;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,7 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 /**
  * Integration tests for ProductController
  * Tests the real ProductService and repository with an in-memory database
- * Includes role-based security (ADMIN vs USER)
+ * Includes role-based security (ADMIN vs USER) and per-request query budgets
  */
 @SpringBootTest
 @Transactional
@@ -41,6 +47,12 @@ class ProductControllerIT {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -50,6 +62,8 @@ class ProductControllerIT {
                 .apply(springSecurity()) // Enable Spring Security
                 .build();
         productRepository.deleteAll();
+        // rows written through the repository bypass ProductService, so cached pages must be dropped by hand
+        catalogVersion.bump();
     }
 
     // ---------------- CREATE ----------------
@@ -126,6 +140,74 @@ class ProductControllerIT {
                 .andExpect(jsonPath("$.content[1].name").value("Product 2"));
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldReturnLeanPageEnvelopeWithOptionalTotal() throws Exception {
+        productRepository.save(new Product(null, "Product 1", "Desc 1", new BigDecimal("10.0"), 1, null, null));
+        productRepository.save(new Product(null, "Product 2", "Desc 2", new BigDecimal("20.0"), 2, null, null));
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                        .param("page", "1")
+                        .param("size", "1")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Product 2"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldBatchGetProductsWithNotFoundMarkers() throws Exception {
+        Product first = productRepository.save(new Product(null, "Batch 1", "Desc", new BigDecimal("10.0"), 1, null, null));
+        Product second = productRepository.save(new Product(null, "Batch 2", "Desc", new BigDecimal("20.0"), 2, null, null));
+
+        mockMvc.perform(post(ApiEndpointConstants.PRODUCT_BATCH_GET)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProductBatchGetRequest(List.of(second.getId(), 9999L, first.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].product.name").value("Batch 2"))
+                .andExpect(jsonPath("$[1].id").value(9999))
+                .andExpect(jsonPath("$[1].found").value(false))
+                .andExpect(jsonPath("$[2].product.name").value("Batch 1"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldHonourIfNoneMatchUntilProductChanges() throws Exception {
+        Product saved = productRepository.save(new Product(null, "Tagged", "Desc", new BigDecimal("15.0"), 1, null, null));
+
+        String etag = mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/" + saved.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put(ApiEndpointConstants.PRODUCT + "/" + saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProductRequest("Tagged", "Changed", new BigDecimal("16.0"), 1))))
+                .andExpect(status().isOk());
+        productRepository.flush();
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/" + saved.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Changed"));
+    }
+
     // ---------------- UPDATE ----------------
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
@@ -173,4 +255,63 @@ class ProductControllerIT {
         mockMvc.perform(delete(ApiEndpointConstants.PRODUCT + "/" + saved.getId()))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    // ---------------- QUERY BUDGETS ----------------
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldGetProductByIdWithAtMostOneQuery() throws Exception {
+        Product saved = productRepository.saveAndFlush(new Product(null, "Budget", "Desc", new BigDecimal("10.0"), 1, null, null));
+        entityManager.clear();
+
+        assertMaxQueries(1, () -> mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/" + saved.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldListProductsWithOneQueryPerPage() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(new Product(null, "Budget " + i, "Desc", new BigDecimal("10.0"), 1, null, null));
+        }
+        productRepository.flush();
+        entityManager.clear();
+
+        assertMaxQueries(1, () -> mockMvc.perform(get(ApiEndpointConstants.PRODUCT).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5)));
+        // the same page again, with the parameters spelled differently, is served from the page cache
+        assertMaxQueries(0, () -> mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "?sortBy=id&size=05&page=0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5)));
+        assertMaxQueries(2, () -> mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                        .param("size", "2")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldBatchGetProductsWithOneQuery() throws Exception {
+        Product first = productRepository.save(new Product(null, "Batch 1", "Desc", new BigDecimal("10.0"), 1, null, null));
+        Product second = productRepository.save(new Product(null, "Batch 2", "Desc", new BigDecimal("20.0"), 2, null, null));
+        productRepository.flush();
+        entityManager.clear();
+
+        assertMaxQueries(1, () -> mockMvc.perform(post(ApiEndpointConstants.PRODUCT_BATCH_GET)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProductBatchGetRequest(List.of(first.getId(), second.getId(), 9999L)))))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void shouldCreateProductWithExistsCheckAndInsertOnly() throws Exception {
+        ProductRequest request = new ProductRequest("Budget Product", "Desc", new BigDecimal("50.0"), 5);
+
+        assertMaxQueries(2, () -> mockMvc.perform(post(ApiEndpointConstants.PRODUCT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated()));
+    }
+}
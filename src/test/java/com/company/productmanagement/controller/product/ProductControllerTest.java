@@ -1,27 +1,35 @@
 package com.company.productmanagement.controller.product;
 
+import com.company.productmanagement.cache.CachedPage;
+import com.company.productmanagement.cache.CachedProduct;
 import com.company.productmanagement.controller.ProductController;
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductBatchGetRequest;
+import com.company.productmanagement.dto.product.ProductBatchItem;
 import com.company.productmanagement.dto.product.ProductRequest;
 import com.company.productmanagement.dto.product.ProductResponse;
 import com.company.productmanagement.exception.GlobalExceptionHandler;
 import com.company.productmanagement.service.ProductService;
 import com.company.productmanagement.utils.ApiEndpointConstants;
+import com.company.productmanagement.utils.ApiMediaTypes;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import org.springframework.web.server.ResponseStatusException;
@@ -29,7 +37,13 @@ import org.springframework.web.server.ResponseStatusException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -38,7 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ProductController.class)
 @AutoConfigureMockMvc(addFilters = false) // Disable security filters
-@ContextConfiguration(classes = { ProductController.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = { ProductController.class, GlobalExceptionHandler.class, SimpleMeterRegistry.class })
 class ProductControllerTest {
 
         @Autowired
@@ -126,12 +140,8 @@ class ProductControllerTest {
                                                 new BigDecimal("149.99"), 5,
                                                 LocalDateTime.now(), LocalDateTime.now()));
 
-                // Create Pageable and Page with it
-                Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
-                Page<ProductResponse> page = new PageImpl<>(products, pageable, products.size());
-
-                when(productService.getAllProducts(any(Pageable.class)))
-                                .thenReturn(page);
+                when(productService.getCachedProductPage(any(Pageable.class), eq(false)))
+                                .thenReturn(cachedPage(new PageResponse<>(products, 0, 10, false, null)));
 
                 mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
                                 .param("page", "0")
@@ -141,9 +151,52 @@ class ProductControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content.length()").value(2))
                                 .andExpect(jsonPath("$.content[0].name").value("Product 1"))
-                                .andExpect(jsonPath("$.content[1].name").value("Product 2"));
+                                .andExpect(jsonPath("$.content[1].name").value("Product 2"))
+                                .andExpect(jsonPath("$.hasNext").value(false))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                                .andExpect(jsonPath("$.pageable").doesNotExist());
 
-                verify(productService).getAllProducts(any(Pageable.class));
+                verify(productService).getCachedProductPage(PageRequest.of(0, 10, Sort.by("id")), false);
+        }
+
+        @Test
+        void shouldIncludeTotalWhenRequested() throws Exception {
+                when(productService.getCachedProductPage(any(Pageable.class), eq(true)))
+                                .thenReturn(cachedPage(new PageResponse<>(List.of(), 3, 10, false, 30L)));
+
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                                .param("page", "3")
+                                .param("includeTotal", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.page").value(3))
+                                .andExpect(jsonPath("$.totalElements").value(30));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldStreamAllProductsAsNdjson() throws Exception {
+                ProductResponse first = new ProductResponse(1L, "Product 1", "Desc 1",
+                                new BigDecimal("99.99"), 10, LocalDateTime.now(), LocalDateTime.now());
+                ProductResponse second = new ProductResponse(2L, "Product 2", "Desc 2",
+                                new BigDecimal("149.99"), 5, LocalDateTime.now(), LocalDateTime.now());
+
+                doAnswer(invocation -> {
+                        Consumer<ProductResponse> consumer = invocation.getArgument(0);
+                        consumer.accept(first);
+                        consumer.accept(second);
+                        return null;
+                }).when(productService).streamAllProducts(any(Consumer.class));
+
+                MvcResult result = mockMvc.perform(get(ApiEndpointConstants.PRODUCT_STREAM))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                                .andExpect(content().string(
+                                                objectMapper.writeValueAsString(first) + "\n"
+                                                                + objectMapper.writeValueAsString(second) + "\n"));
         }
 
         @Test
@@ -152,17 +205,59 @@ class ProductControllerTest {
                                 1L, "Test Product", "Description", new BigDecimal("99.99"),
                                 10, LocalDateTime.now(), LocalDateTime.now());
 
-                when(productService.getProductById(1L)).thenReturn(response);
+                when(productService.getCachedProductById(1L)).thenReturn(
+                                new CachedProduct(response, objectMapper.writeValueAsBytes(response), null));
 
                 mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1"))
                                 .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.name").value("Test Product"));
         }
 
+        @Test
+        void shouldGetGzippedProductWhenAccepted() throws Exception {
+                byte[] gzipped = { 31, -117, 8, 0 };
+                ProductResponse response = new ProductResponse(
+                                1L, "Test Product", "Description", new BigDecimal("99.99"),
+                                10, LocalDateTime.now(), LocalDateTime.now());
+
+                when(productService.getCachedProductById(1L)).thenReturn(
+                                new CachedProduct(response, objectMapper.writeValueAsBytes(response), gzipped));
+
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                                .andExpect(content().bytes(gzipped));
+        }
+
+        @Test
+        void shouldNotGzipProductWhenRefusedWithZeroQuality() throws Exception {
+                byte[] gzipped = { 31, -117, 8, 0 };
+                ProductResponse response = new ProductResponse(
+                                1L, "Test Product", "Description", new BigDecimal("99.99"),
+                                10, LocalDateTime.now(), LocalDateTime.now());
+                byte[] json = objectMapper.writeValueAsBytes(response);
+
+                when(productService.getCachedProductById(1L)).thenReturn(new CachedProduct(response, json, gzipped));
+
+                for (String acceptEncoding : List.of("gzip;q=0.0", "deflate, gzip; q=0", "*, gzip;Q=0", "identity")) {
+                        mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1")
+                                        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                                        .andExpect(content().bytes(json));
+                }
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, *;q=0.5"))
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        }
+
         @Test
         void shouldReturnNotFoundWhenProductDoesNotExist() throws Exception {
-                when(productService.getProductById(999L))
+                when(productService.getCachedProductById(999L))
                                 .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "pdm-1"));
 
                 mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/999"))
@@ -170,6 +265,153 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.code").value("pdm-1"));
         }
 
+        @Test
+        void shouldAnswerNotModifiedWithoutLoadingProduct() throws Exception {
+                LocalDateTime version = LocalDateTime.of(2025, 1, 19, 10, 0);
+                ProductResponse response = new ProductResponse(1L, "Laptop", "Gaming laptop", new BigDecimal("999.99"),
+                                10, version, version);
+                when(productService.getCachedProductById(1L)).thenReturn(
+                                new CachedProduct(response, objectMapper.writeValueAsBytes(response), null));
+                when(productService.getProductVersion(1L)).thenReturn(Optional.of(version));
+
+                String etag = mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1"))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                verify(productService, never()).getProductVersion(1L);
+
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1")
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+                assertTrue(etag.startsWith("W/"));
+
+                verify(productService, times(1)).getCachedProductById(1L);
+        }
+
+        @Test
+        void shouldNegotiateCatalogPageFormat() throws Exception {
+                when(productService.getCachedProductPage(any(Pageable.class), eq(false)))
+                                .thenReturn(cachedPage(new PageResponse<>(List.of(), 0, 10, false, null)));
+
+                when(productService.getProductPage(any(Pageable.class), eq(false)))
+                                .thenReturn(new PageResponse<>(List.of(), 0, 10, false, null));
+
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT).accept(MediaType.ALL))
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT).header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"))
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT).accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT).accept(ApiMediaTypes.APPLICATION_SMILE))
+                                .andExpect(content().contentType(ApiMediaTypes.APPLICATION_SMILE));
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT).accept(MediaType.APPLICATION_XML))
+                                .andExpect(status().isNotAcceptable());
+        }
+
+        @Test
+        void shouldAnswerNotModifiedForUnchangedCatalogPage() throws Exception {
+                when(productService.getCatalogVersion()).thenReturn(42L);
+                when(productService.getCachedProductPage(any(Pageable.class), eq(false)))
+                                .thenReturn(cachedPage(new PageResponse<>(List.of(), 0, 10, false, null)));
+
+                String etag = mockMvc.perform(get(ApiEndpointConstants.PRODUCT))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified());
+
+                when(productService.getCatalogVersion()).thenReturn(43L);
+                mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isOk());
+
+                verify(productService, times(2)).getCachedProductPage(any(Pageable.class), eq(false));
+        }
+
+        @Test
+        void shouldGetProductByIdAsCborWhenRequested() throws Exception {
+                ProductResponse response = new ProductResponse(
+                                1L, "Test Product", "Description", new BigDecimal("99.99"),
+                                10, LocalDateTime.now(), LocalDateTime.now());
+
+                when(productService.getProductById(1L)).thenReturn(response);
+
+                byte[] body = mockMvc.perform(get(ApiEndpointConstants.PRODUCT + "/1")
+                                .accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                                .andReturn().getResponse().getContentAsByteArray();
+
+                ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+                assertEquals(response, cborMapper.readValue(body, ProductResponse.class));
+        }
+
+        @Test
+        void shouldCreateProductFromSmileBody() throws Exception {
+                ProductRequest request = new ProductRequest(
+                                "Test Product", "Description", new BigDecimal("99.99"), 10);
+
+                ProductResponse response = new ProductResponse(
+                                1L, "Test Product", "Description", new BigDecimal("99.99"),
+                                10, LocalDateTime.now(), LocalDateTime.now());
+
+                when(productService.createProduct(request)).thenReturn(response);
+
+                ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+                mockMvc.perform(post(ApiEndpointConstants.PRODUCT)
+                                .contentType(ApiMediaTypes.APPLICATION_SMILE)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content(smileMapper.writeValueAsBytes(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.price").value(99.99));
+        }
+
+        @Test
+        void shouldBatchGetProductsInRequestOrder() throws Exception {
+                ProductResponse response = new ProductResponse(
+                                1L, "Test Product", "Description", new BigDecimal("99.99"),
+                                10, LocalDateTime.now(), LocalDateTime.now());
+
+                when(productService.getProductsByIds(List.of(7L, 1L))).thenReturn(List.of(
+                                ProductBatchItem.notFound(7L), ProductBatchItem.found(response)));
+
+                mockMvc.perform(post(ApiEndpointConstants.PRODUCT_BATCH_GET)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ProductBatchGetRequest(List.of(7L, 1L)))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].id").value(7))
+                                .andExpect(jsonPath("$[0].found").value(false))
+                                .andExpect(jsonPath("$[0].product").doesNotExist())
+                                .andExpect(jsonPath("$[1].found").value(true))
+                                .andExpect(jsonPath("$[1].product.name").value("Test Product"));
+        }
+
+        @Test
+        void shouldRejectBatchGetOverLimit() throws Exception {
+                List<Long> ids = LongStream.rangeClosed(1, ProductBatchGetRequest.MAX_IDS + 1)
+                                .boxed().toList();
+
+                mockMvc.perform(post(ApiEndpointConstants.PRODUCT_BATCH_GET)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ProductBatchGetRequest(ids))))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.code").value("v-15"));
+
+                mockMvc.perform(post(ApiEndpointConstants.PRODUCT_BATCH_GET)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ProductBatchGetRequest(List.of()))))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.code").value("v-14"));
+        }
+
         // ----- UPDATE TESTS -----
         @Test
         void shouldUpdateProductSuccessfully() throws Exception {
@@ -200,4 +442,8 @@ class ProductControllerTest {
 
                 verify(productService, times(1)).deleteProduct(1L);
         }
-}
\ No newline at end of file
+
+        private CachedPage cachedPage(PageResponse<ProductResponse> page) throws Exception {
+                return new CachedPage(page.content().size(), objectMapper.writeValueAsBytes(page), null);
+        }
+}
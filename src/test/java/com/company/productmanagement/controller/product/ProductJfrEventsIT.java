@@ -0,0 +1,120 @@
+package com.company.productmanagement.controller.product;
+
+import com.company.productmanagement.dto.auth.RegisterRequest;
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.service.AuthService;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the custom JFR events
+ * Records a real authenticated list request and checks every hot path emitted its event
+ */
+@SpringBootTest
+@Transactional
+class ProductJfrEventsIT {
+
+    private static final List<String> EVENTS = List.of(
+            "productmanagement.JwtVerification",
+            "productmanagement.PrincipalLookup",
+            "productmanagement.ProductOperation",
+            "productmanagement.ResponseSerialization");
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    private final List<RecordedEvent> recorded = new CopyOnWriteArrayList<>();
+    private RecordingStream stream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        productRepository.deleteAll();
+
+        stream = new RecordingStream();
+        EVENTS.forEach(name -> {
+            stream.enable(name);
+            stream.onEvent(name, recorded::add);
+        });
+        stream.startAsync();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void shouldRecordEventsForAuthenticatedListRequest() throws Exception {
+        productRepository.save(Product.builder().name("Jfr 1").price(new BigDecimal("10.00")).build());
+        productRepository.save(Product.builder().name("Jfr 2").price(new BigDecimal("20.00")).build());
+        String token = authService.register(new RegisterRequest("jfruser", "password123", "jfr@example.com")).token();
+
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        RecordedEvent verification = await("productmanagement.JwtVerification", e -> e.getBoolean("valid"));
+        assertEquals("jfruser", verification.getString("subject"));
+
+        RecordedEvent lookup = await("productmanagement.PrincipalLookup", e -> e.getBoolean("found"));
+        assertEquals("jfruser", lookup.getString("username"));
+
+        RecordedEvent operation = await("productmanagement.ProductOperation",
+                e -> "getCachedProductPage".equals(e.getString("operation")));
+        assertEquals(2, operation.getInt("rows"));
+        assertTrue(operation.getBoolean("success"));
+
+        RecordedEvent serialization = await("productmanagement.ResponseSerialization",
+                e -> "PageResponse".equals(e.getString("valueType")));
+        assertTrue(serialization.getLong("bytes") > 0);
+    }
+
+    private RecordedEvent await(String name, Predicate<RecordedEvent> matching) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            for (RecordedEvent event : recorded) {
+                if (event.getEventType().getName().equals(name) && matching.test(event)) {
+                    return event;
+                }
+            }
+            Thread.sleep(100);
+        }
+        return fail("no " + name + " event recorded");
+    }
+}
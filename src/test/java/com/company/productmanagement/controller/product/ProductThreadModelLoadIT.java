@@ -0,0 +1,143 @@
+package com.company.productmanagement.controller.product;
+
+import com.company.productmanagement.ProductManagementApplication;
+import com.company.productmanagement.dto.auth.RegisterRequest;
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.service.AuthService;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load test comparing platform threads and virtual threads on the product endpoints.
+ * Boots the application twice with the same small Tomcat pool and drives the list and
+ * detail endpoints with more concurrent clients than there are worker threads.
+ * Only runs when started with -Dloadtest=true.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ProductThreadModelLoadIT {
+
+    private static final int PRODUCTS = 500;
+    private static final int CLIENTS = 100;
+    private static final int REQUESTS_PER_CLIENT = 40;
+    private static final int TOMCAT_THREADS = 20;
+
+    @Test
+    void compareThreadModelsOnProductEndpoints() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductManagementApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest-" + virtualThreads + ";DB_CLOSE_DELAY=-1")) {
+
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            productRepository.saveAll(IntStream.range(0, PRODUCTS)
+                    .mapToObj(i -> Product.builder()
+                            .name("Load Product " + i)
+                            .description("Desc " + i)
+                            .price(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                            .quantity(i)
+                            .build())
+                    .toList());
+            List<Long> ids = productRepository.findAll().stream().map(Product::getId).toList();
+
+            String token = context.getBean(AuthService.class)
+                    .register(new RegisterRequest("loadtest", "password123", "loadtest@example.com"))
+                    .token();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            return drive(virtualThreads ? "virtual" : "platform", baseUrl, token, ids);
+        }
+    }
+
+    private LoadResult drive(String label, String baseUrl, String token, List<Long> ids) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> clients = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientId = c;
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[REQUESTS_PER_CLIENT];
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        String path = r % 2 == 0
+                                ? ApiEndpointConstants.PRODUCT + "?page=" + (r % 10) + "&size=20"
+                                : ApiEndpointConstants.PRODUCT + "/" + ids.get((clientId * 31 + r) % ids.size());
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .header("Authorization", "Bearer " + token)
+                                .GET()
+                                .build();
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[r] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] all = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        int i = 0;
+        for (Future<long[]> future : clients) {
+            for (long latency : future.get()) {
+                all[i++] = latency;
+            }
+        }
+        Arrays.sort(all);
+        return new LoadResult(label, all.length * 1_000_000_000.0 / elapsed,
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99), errors.get());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private record LoadResult(String threads, double throughput, double p50Millis, double p99Millis, int errors) {
+
+        @Override
+        public String toString() {
+            return String.format("%-8s threads: %8.1f req/s  p50 %7.2f ms  p99 %7.2f ms  errors %d",
+                    threads, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.productmanagement.deadline;
+
+import io.grpc.Context;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DeadlineQueryTimeoutListener
+ */
+class DeadlineQueryTimeoutListenerTest {
+
+    private final DeadlineQueryTimeoutListener listener = new DeadlineQueryTimeoutListener();
+    private final Statement statement = mock(Statement.class);
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldSetQueryTimeoutToRemainingTime() throws Exception {
+        bindRequestWithDeadline(Duration.ofMillis(1500));
+
+        listener.beforeQuery(executionOf(statement), List.of());
+
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void shouldKeepShorterExistingTimeout() throws Exception {
+        bindRequestWithDeadline(Duration.ofSeconds(30));
+        when(statement.getQueryTimeout()).thenReturn(5);
+
+        listener.beforeQuery(executionOf(statement), List.of());
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void shouldFollowGrpcCallDeadline() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        Context.CancellableContext call = Context.current().withDeadlineAfter(1500, TimeUnit.MILLISECONDS, scheduler);
+        try {
+            call.run(() -> listener.beforeQuery(executionOf(statement), List.of()));
+        } finally {
+            call.cancel(null);
+            scheduler.shutdownNow();
+        }
+
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void shouldLeaveStatementAloneWithoutDeadline() throws Exception {
+        listener.beforeQuery(executionOf(statement), List.of());
+
+        verifyNoInteractions(statement);
+    }
+
+    private static ExecutionInfo executionOf(Statement statement) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setStatement(statement);
+        return executionInfo;
+    }
+
+    private static void bindRequestWithDeadline(Duration timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestDeadline.start(request, timeout);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
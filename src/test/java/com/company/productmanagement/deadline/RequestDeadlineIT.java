@@ -0,0 +1,108 @@
+package com.company.productmanagement.deadline;
+
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.exception.ApiException;
+import com.company.productmanagement.service.ProductService;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static com.company.productmanagement.support.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for request deadlines
+ * Covers the header, skipping expired service calls and the transaction timeout
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestDeadlineIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldAnswerGatewayTimeoutWhenClientDeadlineHasPassed() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT).header(RequestDeadline.HEADER, "0"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.code").value("g-6"));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = {"USER"})
+    void shouldServeRequestWithinDeadline() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT).header(RequestDeadline.HEADER, "5000"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT).header(RequestDeadline.HEADER, "not-a-number"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldSkipExpiredServiceCallWithoutQuery() throws Exception {
+        bindRequestWithDeadline(Duration.ZERO);
+
+        assertMaxQueries(0, () -> {
+            ApiException exception = assertThrows(ApiException.class,
+                    () -> productService.getProductPage(PageRequest.of(0, 10), true));
+            assertEquals(ApiError.DEADLINE_EXCEEDED, exception.getError());
+        });
+    }
+
+    @Test
+    void shouldCapTransactionTimeoutAtDeadline() {
+        bindRequestWithDeadline(Duration.ofMillis(1500));
+
+        long ttl = transactionTemplate.execute(status -> entityManagerHolder().getTimeToLiveInSeconds());
+
+        assertTrue(ttl >= 1 && ttl <= 2, "timeout " + ttl);
+    }
+
+    @Test
+    void shouldLeaveTransactionWithoutTimeoutOutsideRequests() {
+        boolean hasTimeout = transactionTemplate.execute(status -> entityManagerHolder().hasTimeout());
+
+        assertFalse(hasTimeout);
+    }
+
+    private EntityManagerHolder entityManagerHolder() {
+        return (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+    }
+
+    private static void bindRequestWithDeadline(Duration timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestDeadline.start(request, timeout);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
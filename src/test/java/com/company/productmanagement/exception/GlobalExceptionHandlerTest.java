@@ -0,0 +1,137 @@
+package com.company.productmanagement.exception;
+
+import com.company.productmanagement.dto.error.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for GlobalExceptionHandler
+ * Covers the pre-serialized fast path for ApiError and the per-request fallback
+ */
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler =
+            new GlobalExceptionHandler(messageSource(), meterRegistry, objectMapper);
+
+    @Test
+    void shouldAnswerApiErrorWithPreSerializedBody() throws Exception {
+        ResponseEntity<?> response = handler.handleApiException(
+                ApiError.PRODUCT_NOT_FOUND.exception(), Locale.ENGLISH, request(null));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        ErrorResponse body = objectMapper.readValue((byte[]) response.getBody(), ErrorResponse.class);
+        assertEquals("Product not found", body.message());
+        assertEquals("pdm-1", body.code());
+        assertNotNull(body.timestamp());
+        assertEquals(1.0, meterRegistry.get("api.errors").tag("code", "pdm-1").tag("status", "404").counter().count());
+    }
+
+    @Test
+    void shouldFallBackToDefaultMessagesForUnknownLanguage() throws Exception {
+        ResponseEntity<?> response = handler.handleApiException(
+                ApiError.USERNAME_TAKEN.exception(), Locale.forLanguageTag("xx-YY"), request("*/*"));
+
+        ErrorResponse body = objectMapper.readValue((byte[]) response.getBody(), ErrorResponse.class);
+        assertEquals("User with this username already exists", body.message());
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void shouldAnswerWithErrorObjectWhenClientDoesNotAcceptJson() {
+        ResponseEntity<?> response = handler.handleApiException(
+                ApiError.PRODUCT_NOT_FOUND.exception(), Locale.ENGLISH, request("application/cbor"));
+
+        ErrorResponse body = assertInstanceOf(ErrorResponse.class, response.getBody());
+        assertEquals("Product not found", body.message());
+        assertEquals("pdm-1", body.code());
+    }
+
+    @Test
+    void shouldMapFrameworkExceptionsToFixedErrors() throws Exception {
+        ResponseEntity<?> response = handler.handleAllExceptions(
+                new AccessDeniedException("denied"), Locale.ENGLISH, request(null));
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals("a-6", objectMapper.readValue((byte[]) response.getBody(), ErrorResponse.class).code());
+    }
+
+    @Test
+    void shouldResolveOtherCodesPerRequest() {
+        ResponseEntity<?> response = handler.handleAllExceptions(
+                new ResponseStatusException(HttpStatus.BAD_REQUEST, "g-2"), Locale.ENGLISH, request(null));
+
+        ErrorResponse body = assertInstanceOf(ErrorResponse.class, response.getBody());
+        assertEquals("Bad request", body.message());
+        assertEquals("g-2", body.code());
+    }
+
+    @Test
+    void shouldTolerateMessageSourceWithoutMessages() throws Exception {
+        GlobalExceptionHandler bare = new GlobalExceptionHandler(mock(MessageSource.class), meterRegistry, objectMapper);
+
+        ResponseEntity<?> response = bare.handleApiException(
+                ApiError.INVALID_CREDENTIALS.exception(), Locale.ENGLISH, request(null));
+
+        ErrorResponse body = objectMapper.readValue((byte[]) response.getBody(), ErrorResponse.class);
+        assertNull(body.message());
+        assertEquals("a-1", body.code());
+    }
+
+    @Test
+    void shouldCreateStacklessExceptions() {
+        for (ApiError error : ApiError.values()) {
+            ApiException exception = error.exception();
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals(error.getStatus(), exception.getStatusCode());
+            assertEquals(error.getCode(), exception.getReason());
+        }
+    }
+
+    @Test
+    void shouldNotLeakSuppressedExceptionsAcrossThrows() {
+        ApiException first = ApiError.PRODUCT_NOT_FOUND.exception();
+        first.addSuppressed(new IllegalStateException("closing a stream"));
+
+        ApiException second = ApiError.PRODUCT_NOT_FOUND.exception();
+
+        assertNotSame(first, second);
+        assertEquals(0, second.getSuppressed().length);
+    }
+
+    private static ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    private static MessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
@@ -0,0 +1,198 @@
+package com.company.productmanagement.grpc;
+
+import com.company.productmanagement.cache.CatalogVersion;
+import com.company.productmanagement.entity.Role;
+import com.company.productmanagement.entity.User;
+import com.company.productmanagement.grpc.v1.AdjustStockRequest;
+import com.company.productmanagement.grpc.v1.BatchGetProductsRequest;
+import com.company.productmanagement.grpc.v1.BatchGetProductsResponse;
+import com.company.productmanagement.grpc.v1.ExportProductsRequest;
+import com.company.productmanagement.grpc.v1.GetProductRequest;
+import com.company.productmanagement.grpc.v1.ListProductsRequest;
+import com.company.productmanagement.grpc.v1.Product;
+import com.company.productmanagement.grpc.v1.ProductCatalogGrpc;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.utils.JwtUtils;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the gRPC product API
+ * Serves the real service definition (JWT interceptor included) in-process, without a network
+ */
+@SpringBootTest(properties = "grpc.enabled=false")
+class ProductGrpcServiceIT {
+
+    @Autowired
+    private ServerServiceDefinition productCatalogService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        productRepository.deleteAll();
+        catalogVersion.bump();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(productCatalogService).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRejectCallsWithoutValidToken() {
+        ProductCatalogGrpc.ProductCatalogBlockingStub anonymous = ProductCatalogGrpc.newBlockingStub(channel);
+        ProductCatalogGrpc.ProductCatalogBlockingStub forged = withToken("not-a-jwt");
+
+        assertStatus(Status.Code.UNAUTHENTICATED, "a-5",
+                () -> anonymous.getProduct(GetProductRequest.newBuilder().setId(1).build()));
+        assertStatus(Status.Code.UNAUTHENTICATED, "a-5",
+                () -> forged.getProduct(GetProductRequest.newBuilder().setId(1).build()));
+    }
+
+    @Test
+    void shouldGetProductOrAnswerNotFound() {
+        com.company.productmanagement.entity.Product saved = saveProduct("gRPC Product", 3);
+        ProductCatalogGrpc.ProductCatalogBlockingStub stub = withToken(tokenFor("grpc-user", Role.USER));
+
+        Product product = stub.getProduct(GetProductRequest.newBuilder().setId(saved.getId()).build());
+
+        assertEquals("gRPC Product", product.getName());
+        assertEquals("30.00", product.getPrice());
+        assertTrue(product.hasUpdatedAt());
+        assertStatus(Status.Code.NOT_FOUND, "pdm-1",
+                () -> stub.getProduct(GetProductRequest.newBuilder().setId(saved.getId() + 1000).build()));
+    }
+
+    @Test
+    void shouldBatchGetInRequestOrderMarkingMissingIds() {
+        long first = saveProduct("Batch 1", 1).getId();
+        long second = saveProduct("Batch 2", 2).getId();
+        ProductCatalogGrpc.ProductCatalogBlockingStub stub = withToken(tokenFor("grpc-user", Role.USER));
+
+        BatchGetProductsResponse response = stub.batchGetProducts(BatchGetProductsRequest.newBuilder()
+                .addIds(second).addIds(-1).addIds(first).build());
+
+        assertEquals(List.of(second, -1L, first), response.getResultsList().stream().map(r -> r.getId()).toList());
+        assertEquals("Batch 2", response.getResults(0).getProduct().getName());
+        assertFalse(response.getResults(1).hasProduct());
+        assertStatus(Status.Code.INVALID_ARGUMENT, "v-14",
+                () -> stub.batchGetProducts(BatchGetProductsRequest.getDefaultInstance()));
+    }
+
+    @Test
+    void shouldStreamOnePageAndWholeCatalog() {
+        for (int i = 0; i < 25; i++) {
+            saveProduct("Stream " + i, i);
+        }
+        ProductCatalogGrpc.ProductCatalogBlockingStub stub = withToken(tokenFor("grpc-user", Role.USER));
+
+        List<Product> page = new ArrayList<>();
+        stub.listProducts(ListProductsRequest.newBuilder().setPage(1).setSize(10).build()).forEachRemaining(page::add);
+        List<Product> export = new ArrayList<>();
+        stub.exportProducts(ExportProductsRequest.getDefaultInstance()).forEachRemaining(export::add);
+
+        assertEquals(10, page.size());
+        assertEquals("Stream 10", page.get(0).getName());
+        assertEquals(25, export.size());
+        assertEquals(export.stream().map(Product::getId).sorted().toList(),
+                export.stream().map(Product::getId).toList());
+    }
+
+    @Test
+    void shouldRejectNegativePageOrSize() {
+        ProductCatalogGrpc.ProductCatalogBlockingStub stub = withToken(tokenFor("grpc-user", Role.USER));
+
+        assertStatus(Status.Code.INVALID_ARGUMENT, "v-17",
+                () -> stub.listProducts(ListProductsRequest.newBuilder().setPage(-1).build()).hasNext());
+        assertStatus(Status.Code.INVALID_ARGUMENT, "v-18",
+                () -> stub.listProducts(ListProductsRequest.newBuilder().setSize(-5).build()).hasNext());
+    }
+
+    @Test
+    void shouldAdjustStockAsAdminOnly() {
+        long id = saveProduct("Stocked", 5).getId();
+        ProductCatalogGrpc.ProductCatalogBlockingStub admin = withToken(tokenFor("grpc-admin", Role.ADMIN));
+        ProductCatalogGrpc.ProductCatalogBlockingStub user = withToken(tokenFor("grpc-user", Role.USER));
+
+        Product adjusted = admin.adjustStock(AdjustStockRequest.newBuilder().setId(id).setDelta(-2).build());
+
+        assertEquals(3, adjusted.getQuantity());
+        assertEquals(3, admin.getProduct(GetProductRequest.newBuilder().setId(id).build()).getQuantity());
+        assertStatus(Status.Code.FAILED_PRECONDITION, "pdm-3",
+                () -> admin.adjustStock(AdjustStockRequest.newBuilder().setId(id).setDelta(-4).build()));
+        assertStatus(Status.Code.PERMISSION_DENIED, "a-6",
+                () -> user.adjustStock(AdjustStockRequest.newBuilder().setId(id).setDelta(1).build()));
+        assertEquals(3, productRepository.findById(id).orElseThrow().getQuantity());
+    }
+
+    private com.company.productmanagement.entity.Product saveProduct(String name, int quantity) {
+        return productRepository.save(com.company.productmanagement.entity.Product.builder()
+                .name(name)
+                .price(new BigDecimal("30.00"))
+                .quantity(quantity)
+                .build());
+    }
+
+    private String tokenFor(String username, Role role) {
+        User user = userRepository.findByUsername(username)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username(username)
+                        .password("unused")
+                        .email(username + "@example.com")
+                        .role(role)
+                        .build()));
+        return jwtUtils.generateToken(user);
+    }
+
+    private ProductCatalogGrpc.ProductCatalogBlockingStub withToken(String token) {
+        Metadata headers = new Metadata();
+        headers.put(GrpcAuthInterceptor.AUTHORIZATION, "Bearer " + token);
+        return ProductCatalogGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static void assertStatus(Status.Code code, String description, Runnable call) {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, call::run);
+        assertEquals(code, exception.getStatus().getCode());
+        assertEquals(description, exception.getStatus().getDescription());
+    }
+}
@@ -0,0 +1,208 @@
+package com.company.productmanagement.loadtest;
+
+import com.company.productmanagement.entity.Role;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic bulk generator for product and user rows.
+ * The same seed always yields the same rows, in the same order.
+ * Rows are written with batched JDBC inserts, bypassing JPA, so millions
+ * of products load in seconds (on MySQL add rewriteBatchedStatements=true
+ * to the JDBC URL to turn each batch into multi-row inserts).
+ * <p>
+ * Distributions: product names mix a skewed set of popular categories,
+ * prices are log-normal around a 25.00 median with a long tail, quantities
+ * are log-uniform with about 8% out of stock, and timestamps spread over
+ * the two years before {@link #REFERENCE_TIME}.
+ * <p>
+ * Usable from tests through a {@link JdbcTemplate}, or standalone:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.productmanagement.loadtest.CatalogDataGenerator \
+ *     -Dexec.args="jdbc:mysql://localhost:3306/product_management_db root mysql 1000000 5000 42"
+ * </pre>
+ */
+public class CatalogDataGenerator {
+
+    /** Password of every generated user */
+    public static final String USER_PASSWORD = "password123";
+    public static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long HISTORY_SECONDS = Duration.ofDays(730).toSeconds();
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private static final String[] CATEGORIES = {
+            "Headphones", "Keyboard", "Backpack", "Mug", "Lamp", "Chair", "Monitor", "Jacket",
+            "Sneakers", "Speaker", "Notebook", "Watch", "Bottle", "Desk", "Blender", "Router",
+            "Camera", "Tent", "Pillow", "Drill"
+    };
+    private static final String[] ADJECTIVES = {
+            "Classic", "Compact", "Premium", "Ergonomic", "Wireless", "Portable", "Deluxe", "Eco",
+            "Pro", "Ultra", "Smart", "Vintage", "Rugged", "Slim", "Modular", "Heavy-Duty"
+    };
+    private static final String[] MATERIALS = {
+            "Bamboo", "Steel", "Leather", "Cotton", "Aluminium", "Oak", "Carbon", "Ceramic",
+            "Wool", "Glass", "Recycled", "Titanium"
+    };
+    private static final String[] FEATURES = {
+            "Built to last with a two-year warranty.",
+            "Ships in recyclable packaging.",
+            "Designed for everyday use at home or in the office.",
+            "Lightweight and easy to carry.",
+            "Available while stocks last.",
+            "Backed by thousands of five-star reviews.",
+            "Easy to clean and maintain.",
+            "Compatible with most standard accessories."
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final long seed;
+
+    public CatalogDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.seed = seed;
+    }
+
+    /**
+     * Inserts {@code count} products
+     * 
+     * @param count number of products
+     * @return number of rows inserted
+     */
+    public int generateProducts(int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            chunk.add(productRow(random, i));
+            if (chunk.size() == CHUNK_SIZE) {
+                insertProducts(chunk);
+                chunk.clear();
+            }
+        }
+        insertProducts(chunk);
+        return count;
+    }
+
+    /**
+     * Inserts {@code count} users named {@code user000000, user000001, ...}
+     * sharing {@link #USER_PASSWORD}; about 1% are admins.
+     * The password is hashed once, not per user.
+     * 
+     * @param count number of users
+     * @return number of rows inserted
+     */
+    public int generateUsers(int count) {
+        SplittableRandom random = new SplittableRandom(~seed);
+        String passwordHash = passwordEncoder.encode(USER_PASSWORD);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = username(i);
+            Role role = random.nextInt(100) == 0 ? Role.ADMIN : Role.USER;
+            rows.add(new Object[] { username, passwordHash, username + "@example.com", role.name(), true });
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into users (username, password, email, role, enabled) values (?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    for (int c = 0; c < row.length; c++) {
+                        ps.setObject(c + 1, row[c]);
+                    }
+                });
+        return count;
+    }
+
+    public static String username(int index) {
+        return String.format("user%06d", index);
+    }
+
+    private Object[] productRow(SplittableRandom random, int index) {
+        String category = CATEGORIES[skewedIndex(random, CATEGORIES.length)];
+        String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                + MATERIALS[random.nextInt(MATERIALS.length)] + " "
+                + category + " " + Integer.toString(index, 36).toUpperCase();
+
+        String description = null;
+        if (random.nextInt(10) != 0) {
+            StringBuilder sb = new StringBuilder("A ").append(category.toLowerCase()).append(" for every budget.");
+            int sentences = random.nextInt(4);
+            for (int s = 0; s < sentences; s++) {
+                sb.append(' ').append(FEATURES[random.nextInt(FEATURES.length)]);
+            }
+            description = sb.toString();
+        }
+
+        BigDecimal price = BigDecimal.valueOf(Math.exp(Math.log(25) + 1.1 * random.nextGaussian()))
+                .max(new BigDecimal("0.99"))
+                .min(MAX_PRICE)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        int quantity = random.nextInt(100) < 8
+                ? 0
+                : (int) Math.exp(random.nextDouble() * Math.log(10_000));
+
+        LocalDateTime createdAt = REFERENCE_TIME.minusSeconds(random.nextLong(HISTORY_SECONDS));
+        LocalDateTime updatedAt = random.nextInt(10) < 6
+                ? createdAt.plusSeconds(random.nextLong(Duration.between(createdAt, REFERENCE_TIME).toSeconds() + 1))
+                : createdAt;
+
+        return new Object[] { name, description, price, quantity, Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt) };
+    }
+
+    /**
+     * Index biased towards the start of the array, so early categories are more popular
+     */
+    private static int skewedIndex(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u);
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into products (name, description, price, quantity, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    for (int c = 0; c < row.length; c++) {
+                        ps.setObject(c + 1, row[c]);
+                    }
+                });
+    }
+
+    /**
+     * Standalone entry point; the tables must already exist (start the application once)
+     * 
+     * @param args jdbc-url username password products users [seed]
+     */
+    public static void main(String[] args) {
+        if (args.length < 5) {
+            System.err.println("usage: CatalogDataGenerator <jdbc-url> <username> <password> <products> <users> [seed]");
+            System.exit(1);
+        }
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], args[1], args[2]);
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 42L;
+        CatalogDataGenerator generator = new CatalogDataGenerator(new JdbcTemplate(dataSource), new BCryptPasswordEncoder(), seed);
+
+        long start = System.nanoTime();
+        int products = generator.generateProducts(Integer.parseInt(args[3]));
+        int users = generator.generateUsers(Integer.parseInt(args[4]));
+        System.out.printf("inserted %d products and %d users in %d ms%n",
+                products, users, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+}
@@ -0,0 +1,94 @@
+package com.company.productmanagement.loadtest;
+
+import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.entity.User;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs on its own in-memory database: bulk inserts advance the identity
+ * columns, which would otherwise shift the ids other ITs rely on
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:generator;DB_CLOSE_DELAY=-1")
+@Transactional
+class CatalogDataGeneratorIT {
+
+    private static final int PRODUCTS = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void cleanDb() {
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldGenerateSameProductsForSameSeed() {
+        List<String> first = generateAndSnapshot(7L);
+        jdbcTemplate.update("delete from products");
+        List<String> second = generateAndSnapshot(7L);
+        jdbcTemplate.update("delete from products");
+        List<String> other = generateAndSnapshot(8L);
+
+        assertEquals(PRODUCTS, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void shouldGenerateValidProducts() {
+        new CatalogDataGenerator(jdbcTemplate, passwordEncoder, 1L).generateProducts(PRODUCTS);
+
+        List<Product> products = productRepository.findAll();
+
+        assertEquals(PRODUCTS, products.size());
+        assertEquals(PRODUCTS, products.stream().map(Product::getName).distinct().count());
+        assertTrue(products.stream().allMatch(p -> p.getName().length() <= 100
+                && p.getPrice().compareTo(BigDecimal.ZERO) > 0
+                && p.getQuantity() >= 0
+                && !p.getUpdatedAt().isBefore(p.getCreatedAt())));
+        assertTrue(products.stream().anyMatch(p -> p.getQuantity() == 0));
+    }
+
+    @Test
+    void shouldGenerateUsersThatCanLogIn() {
+        new CatalogDataGenerator(jdbcTemplate, passwordEncoder, 1L).generateUsers(50);
+
+        assertEquals(50, userRepository.count());
+        User user = userRepository.findByUsername(CatalogDataGenerator.username(49)).orElseThrow();
+        assertTrue(passwordEncoder.matches(CatalogDataGenerator.USER_PASSWORD, user.getPassword()));
+    }
+
+    private List<String> generateAndSnapshot(long seed) {
+        new CatalogDataGenerator(jdbcTemplate, passwordEncoder, seed).generateProducts(PRODUCTS);
+        return jdbcTemplate.queryForList(
+                "select concat(name, '|', coalesce(description, ''), '|', price, '|', quantity, '|', created_at, '|', updated_at)"
+                        + " from products order by id", String.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.company.productmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint HDR latency histograms and error counts collected by {@link LoadGenerator}.
+ * Latencies are recorded in nanoseconds from the intended send time.
+ */
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, e -> new EndpointStats());
+        stats.histogram.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void setElapsed(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long totalRequests() {
+        return endpoints.values().stream().mapToLong(s -> s.histogram.getTotalCount()).sum();
+    }
+
+    public long totalErrors() {
+        return endpoints.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    }
+
+    public Histogram histogram(String endpoint) {
+        return endpoints.get(endpoint).histogram;
+    }
+
+    /**
+     * Prints one line per endpoint plus a total line
+     */
+    public void print(PrintStream out) {
+        double seconds = Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+        Histogram total = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        out.printf("%-10s %9s %9s %7s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            total.add(histogram);
+            printLine(out, entry.getKey(), histogram, entry.getValue().errors.sum(), seconds);
+        }
+        printLine(out, "total", total, totalErrors(), seconds);
+    }
+
+    /**
+     * Writes the full percentile distribution of every endpoint as
+     * {@code <endpoint>.hgrm}, which the HdrHistogram plotter can read
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printLine(PrintStream out, String endpoint, Histogram histogram, long errors, double seconds) {
+        out.printf("%-10s %9d %9.1f %7d %10.2f %10.2f %10.2f %10.2f%n",
+                endpoint,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                errors,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static final class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.productmanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model HTTP load generator.
+ * Requests are sent at a fixed arrival rate whatever the server's response time,
+ * and each latency is measured from the time the request was scheduled to go out
+ * rather than when it actually did. A slow server therefore shows up as queueing
+ * in the histograms instead of silently lowering the offered load
+ * (no coordinated omission).
+ */
+public class LoadGenerator {
+
+    /**
+     * One request and the endpoint label it is reported under
+     */
+    public record Request(String endpoint, HttpRequest httpRequest) {
+    }
+
+    private final HttpClient client;
+    private final double ratePerSecond;
+
+    public LoadGenerator(HttpClient client, double ratePerSecond) {
+        this.client = client;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    /**
+     * Sends requests for {@code warmup + duration}; only those scheduled after
+     * the warmup are recorded
+     * 
+     * @param requests source of requests, called from a single thread
+     * @param warmup period whose results are discarded
+     * @param duration measured period
+     * @return per-endpoint latencies and errors of the measured period
+     */
+    public LatencyReport run(Supplier<Request> requests, Duration warmup, Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        var inFlight = ConcurrentHashMap.<CompletableFuture<?>>newKeySet();
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Request request = requests.get();
+            boolean measured = intended >= measureFrom;
+            CompletableFuture<?> future = client.sendAsync(request.httpRequest(), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        if (measured) {
+                            boolean success = error == null && response.statusCode() < 400;
+                            report.record(request.endpoint(), System.nanoTime() - intended, success);
+                        }
+                        return null;
+                    });
+            inFlight.add(future);
+            future.whenComplete((r, e) -> inFlight.remove(future));
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("requests still in flight after the run", e);
+        }
+        report.setElapsed(Duration.ofNanos(end - measureFrom));
+        return report;
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.productmanagement.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Weighted mix of request types. Picks are deterministic for a given seed,
+ * so two runs against different builds send the same sequence of requests.
+ * Not thread-safe; {@link LoadGenerator} only calls it from its dispatcher thread.
+ */
+public class LoadMix implements Supplier<LoadGenerator.Request> {
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final SplittableRandom random;
+    private int totalWeight;
+
+    public LoadMix(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Adds a request type
+     * 
+     * @param endpoint label the latencies are reported under
+     * @param weight relative share of the traffic
+     * @param request builds the next request of this type
+     * @return this mix
+     */
+    public LoadMix add(String endpoint, int weight, Supplier<HttpRequest> request) {
+        entries.add(new Entry(endpoint, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    @Override
+    public LoadGenerator.Request get() {
+        int pick = random.nextInt(totalWeight);
+        for (Entry entry : entries) {
+            pick -= entry.weight();
+            if (pick < 0) {
+                return new LoadGenerator.Request(entry.endpoint(), entry.request().get());
+            }
+        }
+        throw new IllegalStateException("empty load mix");
+    }
+
+    private record Entry(String endpoint, int weight, Supplier<HttpRequest> request) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.productmanagement.loadtest;
+
+import com.company.productmanagement.ProductManagementApplication;
+import com.company.productmanagement.dto.auth.RegisterRequest;
+import com.company.productmanagement.entity.Role;
+import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.service.AuthService;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Capacity test for the whole API.
+ * Boots the application on an in-memory database bulk-loaded by {@link CatalogDataGenerator},
+ * then drives a mix of login, list, detail, create and update requests at a fixed
+ * arrival rate and prints p50/p99/p99.9 latency and throughput per endpoint.
+ * Only runs when started with -Dloadtest=true; tune it with
+ * -Dloadtest.catalog-size, -Dloadtest.rate (req/s), -Dloadtest.warmup,
+ * -Dloadtest.duration and -Dloadtest.seed.
+ * Full histograms are written to target/loadtest.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ProductApiLoadIT {
+
+    private static final int CATALOG_SIZE = Integer.getInteger("loadtest.catalog-size", 10_000);
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final int USERS = 10;
+    private static final String PASSWORD = CatalogDataGenerator.USER_PASSWORD;
+
+    @Test
+    void driveMixedTrafficAtFixedRate() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductManagementApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1")) {
+
+            String adminToken = seed(context);
+            List<Long> ids = context.getBean(JdbcTemplate.class).queryForList("select id from products", Long.class);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadMix mix = new LoadMix(SEED);
+            AtomicLong created = new AtomicLong();
+            mix.add("login", 5, () -> post(baseUrl + ApiEndpointConstants.AUTH_LOGIN, null,
+                            "{\"username\":\"" + CatalogDataGenerator.username(mix.random().nextInt(USERS))
+                                    + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .add("list", 40, () -> get(baseUrl + ApiEndpointConstants.PRODUCT
+                            + "?page=" + mix.random().nextInt(Math.max(1, CATALOG_SIZE / 20)) + "&size=20", adminToken))
+                    .add("detail", 45, () -> get(baseUrl + ApiEndpointConstants.PRODUCT + "/"
+                            + ids.get(mix.random().nextInt(ids.size())), adminToken))
+                    .add("create", 5, () -> post(baseUrl + ApiEndpointConstants.PRODUCT, adminToken,
+                            productJson("Load Created " + created.incrementAndGet(), mix.random().nextInt(1000))))
+                    .add("update", 5, () -> {
+                        long id = ids.get(mix.random().nextInt(ids.size()));
+                        return put(baseUrl + ApiEndpointConstants.PRODUCT + "/" + id, adminToken,
+                                productJson("Load Updated " + id, mix.random().nextInt(1000)));
+                    });
+
+            LatencyReport report = new LoadGenerator(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(), RATE).run(mix, WARMUP, DURATION);
+
+            System.out.printf("catalog %d products, %.0f req/s offered for %s%n", CATALOG_SIZE, RATE, DURATION);
+            report.print(System.out);
+            report.writeHistograms(Path.of("target", "loadtest"));
+
+            assertEquals(0, report.totalErrors());
+        }
+    }
+
+    /**
+     * Bulk-loads the catalog and the login users, then registers an admin for writes
+     * 
+     * @return admin token
+     */
+    private String seed(ConfigurableApplicationContext context) {
+        CatalogDataGenerator generator = new CatalogDataGenerator(
+                context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class), SEED);
+        generator.generateProducts(CATALOG_SIZE);
+        generator.generateUsers(USERS);
+
+        AuthService authService = context.getBean(AuthService.class);
+        String token = authService.register(new RegisterRequest("loadadmin", PASSWORD, "loadadmin@example.com")).token();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        userRepository.findByUsername("loadadmin").ifPresent(admin -> {
+            admin.setRole(Role.ADMIN);
+            userRepository.save(admin);
+        });
+        return token;
+    }
+
+    private static String productJson(String name, int quantity) {
+        return "{\"name\":\"" + name + "\",\"description\":\"Load test product\",\"price\":"
+                + (10 + quantity) + ".50,\"quantity\":" + quantity + "}";
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(String url, String token, String json) {
+        return withBody(url, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private static HttpRequest put(String url, String token, String json) {
+        return withBody(url, token).PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private static HttpRequest.Builder withBody(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,104 @@
+package com.company.productmanagement.ratelimit;
+
+import com.company.productmanagement.dto.auth.LoginRequest;
+import com.company.productmanagement.utils.ApiEndpointConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for RateLimitFilter
+ * Runs the full security chain with small quotas
+ */
+@SpringBootTest(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.auth.limit=3",
+        "rate-limit.auth.period=1h",
+        "rate-limit.auth.burst=3",
+        "rate-limit.products.limit=2",
+        "rate-limit.products.period=1h",
+        "rate-limit.products.burst=2"
+})
+class RateLimitFilterIT {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void shouldRejectLoginsOverQuotaPerClientIp() throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginRequest("nobody", "wrong-password"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post(ApiEndpointConstants.AUTH_LOGIN)
+                            .with(request -> { request.setRemoteAddr("10.0.0.1"); return request; })
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post(ApiEndpointConstants.AUTH_LOGIN)
+                        .with(request -> { request.setRemoteAddr("10.0.0.1"); return request; })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("g-4"));
+
+        // another client still has its own quota
+        mockMvc.perform(post(ApiEndpointConstants.AUTH_LOGIN)
+                        .with(request -> { request.setRemoteAddr("10.0.0.2"); return request; })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("group", "auth").counter().count());
+    }
+
+    @Test
+    @WithMockUser(username = "limited-user", roles = {"USER"})
+    void shouldLimitProductRequestsPerUser() throws Exception {
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)).andExpect(status().isOk());
+        mockMvc.perform(get(ApiEndpointConstants.PRODUCT)).andExpect(status().isOk());
+
+        String retryAfter = mockMvc.perform(get(ApiEndpointConstants.PRODUCT))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("g-4"))
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+
+        // the next token arrives half an hour (one emission interval) after the burst was spent
+        long seconds = Long.parseLong(retryAfter);
+        assertTrue(seconds > 1700 && seconds <= 1800, "Retry-After " + seconds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.company.productmanagement.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucket
+ * Uses explicit timestamps, so no test depends on the wall clock
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitGroup group = RateLimitGroup.of("test", new String[] { "/api/**" }, 10, Duration.ofSeconds(1), 5);
+
+    @Test
+    void shouldAllowBurstThenReject() {
+        TokenBucket bucket = new TokenBucket(group, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryAcquire(0), "request " + i);
+        }
+        long wait = bucket.tryAcquire(0);
+
+        assertEquals(SECOND / 10, wait);
+    }
+
+    @Test
+    void shouldRefillAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(group, 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertTrue(bucket.tryAcquire(SECOND / 20) > 0);
+        assertEquals(0, bucket.tryAcquire(SECOND / 10));
+        assertTrue(bucket.tryAcquire(SECOND / 10) > 0);
+    }
+
+    @Test
+    void shouldNotSaveUpMoreThanBurstWhileIdle() {
+        TokenBucket bucket = new TokenBucket(group, 0);
+        long later = 60 * SECOND;
+
+        int allowed = 0;
+        while (bucket.tryAcquire(later) == 0) {
+            allowed++;
+        }
+
+        assertEquals(5, allowed);
+    }
+
+    @Test
+    void shouldNeverAllowMoreThanBurstUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(group, 0);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(5, allowed.get());
+    }
+
+    @Test
+    void shouldRejectNonPositiveQuota() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RateLimitGroup.of("bad", new String[] { "/**" }, 0, Duration.ofSeconds(1), 1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.company.productmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoginAttemptService
+ * Lockouts are minutes long, so elapsed test time never ends one
+ */
+class LoginAttemptServiceTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginAttemptService service = new LoginAttemptService(
+            3, 10, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(30), 1000, meterRegistry);
+
+    @Test
+    void shouldAllowFreeAttempts() {
+        for (int i = 0; i < 3; i++) {
+            service.loginFailed("alice", "10.0.0.1");
+        }
+
+        assertEquals(0, service.lockoutRemaining("alice", "10.0.0.1"));
+    }
+
+    @Test
+    void shouldDoubleLockoutUpToMaximum() {
+        for (int i = 0; i < 4; i++) {
+            service.loginFailed("alice", null);
+        }
+        assertLockout(1, service.lockoutRemaining("alice", null));
+
+        service.loginFailed("alice", null);
+        assertLockout(2, service.lockoutRemaining("alice", null));
+
+        service.loginFailed("alice", null);
+        assertLockout(4, service.lockoutRemaining("alice", null));
+
+        for (int i = 0; i < 40; i++) {
+            service.loginFailed("alice", null);
+        }
+        assertLockout(5, service.lockoutRemaining("alice", null));
+    }
+
+    @Test
+    void shouldLockOutClientIpAcrossUsernames() {
+        for (int i = 0; i < 11; i++) {
+            service.loginFailed("user" + i, "10.0.0.1");
+        }
+
+        assertTrue(service.lockoutRemaining("someone-else", "10.0.0.1") > 0);
+        assertEquals(0, service.lockoutRemaining("someone-else", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.blocked").tag("reason", "ip").counter().count());
+    }
+
+    @Test
+    void shouldClearUsernameButNotIpOnSuccess() {
+        for (int i = 0; i < 11; i++) {
+            service.loginFailed("alice", "10.0.0.1");
+        }
+
+        service.loginSucceeded("alice");
+
+        assertEquals(0, service.lockoutRemaining("alice", null));
+        assertTrue(service.lockoutRemaining("alice", "10.0.0.1") > 0);
+    }
+
+    @Test
+    void shouldCountBlockedAttemptsByUsername() {
+        for (int i = 0; i < 4; i++) {
+            service.loginFailed("alice", null);
+        }
+
+        service.lockoutRemaining("alice", null);
+        service.lockoutRemaining("alice", null);
+
+        assertEquals(2.0, meterRegistry.get("auth.login.blocked").tag("reason", "username").counter().count());
+    }
+
+    private static void assertLockout(int minutes, long remainingNanos) {
+        assertTrue(remainingNanos > (minutes * MINUTE) - MINUTE / 2 && remainingNanos <= minutes * MINUTE,
+                "expected about " + minutes + " min but was " + remainingNanos + " ns");
+    }
+}
@@ -6,6 +6,7 @@ import com.company.productmanagement.dto.auth.RegisterRequest;
 import com.company.productmanagement.entity.User;
 import com.company.productmanagement.repository.UserRepository;
 import com.company.productmanagement.service.AuthService;
+import com.company.productmanagement.service.UserService;
 
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import static com.company.productmanagement.support.QueryCountAssertions.assertMaxQueries;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -33,6 +35,9 @@ class AuthServiceIT {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private UserService userService;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
     
@@ -374,6 +379,23 @@ class AuthServiceIT {
     @DisplayName("Full Flow Integration Tests")
     class FullFlowIntegrationTests {
         
+        @Test
+        @Order(19)
+        @DisplayName("Should answer unknown username from cache and forget it on registration")
+        void shouldForgetUnknownUsernameOnRegistration() throws Exception {
+            // Given - a lookup that finds nothing is cached
+            assertThrows(ResponseStatusException.class, () -> userService.loadUserByUsername(TEST_USERNAME));
+            assertMaxQueries(0, () -> assertThrows(ResponseStatusException.class,
+                    () -> userService.loadUserByUsername(TEST_USERNAME)));
+            
+            // When
+            authService.register(new RegisterRequest(TEST_USERNAME, TEST_PASSWORD, TEST_EMAIL));
+            
+            // Then - the new user can be loaded and log in right away
+            assertEquals(TEST_USERNAME, userService.loadUserByUsername(TEST_USERNAME).getUsername());
+            assertEquals(TEST_USERNAME, authService.login(new LoginRequest(TEST_USERNAME, TEST_PASSWORD)).username());
+        }
+        
         @Test
         @Order(20)
         @DisplayName("Should complete full registration and login flow")
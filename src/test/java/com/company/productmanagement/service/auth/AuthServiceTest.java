@@ -1,13 +1,16 @@
 package com.company.productmanagement.service.auth;
 
+import com.company.productmanagement.cache.UnknownUsernameCache;
 import com.company.productmanagement.dto.auth.AuthResponse;
 import com.company.productmanagement.dto.auth.LoginRequest;
 import com.company.productmanagement.dto.auth.RegisterRequest;
 import com.company.productmanagement.entity.User;
 import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.security.LoginAttemptService;
 import com.company.productmanagement.service.AuthService;
 import com.company.productmanagement.utils.JwtUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -28,6 +32,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -52,6 +58,13 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
     
+    @Mock
+    private UnknownUsernameCache unknownUsernameCache;
+    
+    @Spy
+    private LoginAttemptService loginAttemptService = new LoginAttemptService(
+            2, 50, Duration.ofMinutes(1), Duration.ofMinutes(15), Duration.ofMinutes(30), 1000, new SimpleMeterRegistry());
+    
     @InjectMocks
     private AuthService authService;
     
@@ -100,6 +113,7 @@ class AuthServiceTest {
             verify(userRepository).existsByUsername(registerRequest.username());
             verify(passwordEncoder).encode(registerRequest.password());
             verify(userRepository).save(any(User.class));
+            verify(unknownUsernameCache).evict(registerRequest.username());
             verify(jwtUtils).generateToken(any(User.class));
         }
         
@@ -528,6 +542,75 @@ class AuthServiceTest {
         }
     }
     
+    // ======= LOGIN THROTTLING TESTS =======
+    
+    @Nested
+    @DisplayName("Login Throttling Tests")
+    class LoginThrottlingTests {
+        
+        @Test
+        @DisplayName("Should reject locked-out username without authenticating")
+        void shouldRejectLockedOutUsernameWithoutAuthenticating() {
+            // Given - two free failures, the third one starts a lockout
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Invalid credentials"));
+            for (int i = 0; i < 3; i++) {
+                assertThrows(ResponseStatusException.class, () -> authService.login(loginRequest));
+            }
+            
+            // When & Then
+            ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> authService.login(loginRequest)
+            );
+            
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+            assertEquals("a-7", exception.getReason());
+            verify(authenticationManager, times(3)).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        }
+        
+        @Test
+        @DisplayName("Should reset failures after successful login")
+        void shouldResetFailuresAfterSuccessfulLogin() {
+            // Given
+            Authentication authentication = mock(Authentication.class);
+            when(authentication.getPrincipal()).thenReturn(user);
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Invalid credentials"))
+                .thenThrow(new BadCredentialsException("Invalid credentials"))
+                .thenReturn(authentication)
+                .thenThrow(new BadCredentialsException("Invalid credentials"));
+            
+            assertThrows(ResponseStatusException.class, () -> authService.login(loginRequest));
+            assertThrows(ResponseStatusException.class, () -> authService.login(loginRequest));
+            authService.login(loginRequest);
+            
+            // When & Then - counting starts over, so this is a plain failure
+            ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> authService.login(loginRequest)
+            );
+            assertEquals("a-1", exception.getReason());
+            verify(loginAttemptService).loginSucceeded("testuser");
+        }
+        
+        @Test
+        @DisplayName("Should not count other authentication errors as failed logins")
+        void shouldNotCountOtherAuthenticationErrors() {
+            // Given
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new InternalAuthenticationServiceException("Auth service error"));
+            
+            // When
+            for (int i = 0; i < 5; i++) {
+                assertThrows(AuthenticationException.class, () -> authService.login(loginRequest));
+            }
+            
+            // Then
+            verify(loginAttemptService, never()).loginFailed(anyString(), any());
+        }
+    }
+    
     // ======= EDGE CASE TESTS =======
     
     @Nested
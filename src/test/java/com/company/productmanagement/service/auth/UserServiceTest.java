@@ -0,0 +1,86 @@
+package com.company.productmanagement.service.auth;
+
+import com.company.productmanagement.cache.UnknownUsernameCache;
+import com.company.productmanagement.entity.User;
+import com.company.productmanagement.repository.UserRepository;
+import com.company.productmanagement.service.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserService
+ * Covers the negative cache of unknown usernames
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UnknownUsernameCache unknownUsernameCache =
+            new UnknownUsernameCache(1000, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void shouldLoadExistingUser() {
+        User user = User.builder().username("alice").password("encoded").enabled(true).build();
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertSame(user, userService.loadUserByUsername("alice"));
+        assertSame(user, userService.loadUserByUsername("alice"));
+
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    void shouldAnswerRepeatedUnknownUsernameWithoutQuery() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                    () -> userService.loadUserByUsername("ghost"));
+            assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+            assertEquals("a-2", exception.getReason());
+        }
+
+        verify(userRepository, times(1)).findByUsername("ghost");
+    }
+
+    @Test
+    void shouldQueryAgainAfterUsernameIsRegistered() {
+        User user = User.builder().username("newbie").password("encoded").enabled(true).build();
+        when(userRepository.findByUsername("newbie")).thenReturn(Optional.empty(), Optional.of(user));
+        assertThrows(ResponseStatusException.class, () -> userService.loadUserByUsername("newbie"));
+
+        unknownUsernameCache.evict("newbie");
+
+        assertSame(user, userService.loadUserByUsername("newbie"));
+    }
+
+    @Test
+    void shouldNotCacheMissThatRacedWithRegistration() {
+        long generation = unknownUsernameCache.generation();
+        unknownUsernameCache.evict("racer");
+
+        unknownUsernameCache.putUnknown("racer", generation);
+
+        assertFalse(unknownUsernameCache.isUnknown("racer"));
+    }
+}
@@ -6,14 +6,20 @@ import com.company.productmanagement.entity.Product;
 import com.company.productmanagement.repository.ProductRepository;
 import com.company.productmanagement.service.ProductService;
 
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +34,9 @@ class ProductServiceIT {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void cleanDb() {
         productRepository.deleteAll();
@@ -75,6 +84,41 @@ class ProductServiceIT {
         assertEquals(2, products.size());
     }
 
+    @Test
+    void shouldStreamAllProductsOrderedById() {
+        Product first = productRepository.save(new Product(null, "S1", "Desc1", new BigDecimal("10.0"), 1, null, null));
+        Product second = productRepository.save(new Product(null, "S2", "Desc2", new BigDecimal("20.0"), 2, null, null));
+
+        List<ProductResponse> streamed = new ArrayList<>();
+        productService.streamAllProducts(streamed::add);
+
+        assertEquals(List.of(first.getId(), second.getId()), streamed.stream().map(ProductResponse::id).toList());
+        assertEquals("S2", streamed.get(1).name());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeRepeatedLookupsFromSecondLevelCache() {
+        Product saved = productRepository.save(new Product(null, "Cached", "Desc", new BigDecimal("10.0"), 1, null, null));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        try {
+            productRepository.findById(saved.getId());
+            productRepository.existsByName("Cached");
+            statistics.clear();
+
+            assertTrue(productRepository.findById(saved.getId()).isPresent());
+            assertTrue(productRepository.existsByName("Cached"));
+            assertTrue(productRepository.existsByName("Cached"));
+
+            assertEquals(0, statistics.getPrepareStatementCount());
+            assertEquals(2, statistics.getDomainDataRegionStatistics("product-names").getHitCount());
+            assertTrue(statistics.getDomainDataRegionStatistics("products").getHitCount() >= 3);
+        } finally {
+            productRepository.deleteAll();
+        }
+    }
+
     @Test
     void shouldThrowExceptionForInvalidId() {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
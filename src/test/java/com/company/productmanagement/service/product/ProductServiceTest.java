@@ -1,19 +1,44 @@
 package com.company.productmanagement.service.product;
 
+import com.company.productmanagement.cache.CachedPage;
+import com.company.productmanagement.cache.CachedProduct;
+import com.company.productmanagement.cache.CatalogVersion;
+import com.company.productmanagement.cache.ProductCountCache;
+import com.company.productmanagement.cache.ProductJsonCache;
+import com.company.productmanagement.cache.ProductPageCache;
+import com.company.productmanagement.cache.ProductVersionCache;
+import com.company.productmanagement.cache.RequestCoalescer;
+import com.company.productmanagement.dto.page.PageResponse;
+import com.company.productmanagement.dto.product.ProductBatchItem;
 import com.company.productmanagement.dto.product.ProductRequest;
 import com.company.productmanagement.dto.product.ProductResponse;
 import com.company.productmanagement.entity.Product;
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.exception.ApiException;
 import com.company.productmanagement.repository.ProductRepository;
 import com.company.productmanagement.service.ProductService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +48,30 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private ProductJsonCache productJsonCache = new ProductJsonCache(
+            Jackson2ObjectMapperBuilder.json().build(),
+            DataSize.ofMegabytes(1), Duration.ofMinutes(1), true, DataSize.ofBytes(64));
+
+    @Spy
+    private ProductCountCache productCountCache = new ProductCountCache(Duration.ofMinutes(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ProductVersionCache productVersionCache = new ProductVersionCache(1000, Duration.ofMinutes(1));
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Spy
+    private ProductPageCache productPageCache = new ProductPageCache(
+            Jackson2ObjectMapperBuilder.json().build(),
+            DataSize.ofMegabytes(1), Duration.ofMinutes(1), true, DataSize.ofBytes(64), meterRegistry);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(Duration.ofSeconds(5), meterRegistry);
+
     @InjectMocks
     private ProductService productService;
 
@@ -38,6 +87,7 @@ class ProductServiceTest {
                 .description("Desc")
                 .price(new BigDecimal("10.0"))
                 .quantity(5)
+                .updatedAt(LocalDateTime.of(2025, 1, 19, 10, 0))
                 .build();
     }
 
@@ -77,6 +127,53 @@ class ProductServiceTest {
         assertEquals("Test Product", response.name());
     }
 
+    @Test
+    void shouldServeRepeatedGetFromCache() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        productService.getProductById(1L);
+        ProductResponse response = productService.getProductById(1L);
+
+        assertEquals("Test Product", response.name());
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldCacheSerializedAndGzippedJson() throws Exception {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        CachedProduct cached = productService.getCachedProductById(1L);
+
+        assertTrue(new String(cached.json(), StandardCharsets.UTF_8).contains("\"name\":\"Test Product\""));
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(cached.gzippedJson()))) {
+            assertArrayEquals(cached.json(), gunzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldNotCacheProductLoadedBeforeConcurrentUpdate() {
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            productJsonCache.evict(1L); // an update commits while the old row is being read
+            return Optional.of(product);
+        });
+
+        productService.getProductById(1L);
+
+        assertTrue(productJsonCache.get(1L).isEmpty());
+    }
+
+    @Test
+    void shouldEvictCachedProductOnUpdate() {
+        ProductRequest request = new ProductRequest("Updated", "New Desc", new BigDecimal("20.0"), 10);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+
+        productService.getProductById(1L);
+        productService.updateProduct(1L, request);
+
+        assertEquals("Updated", productService.getProductById(1L).name());
+    }
+
     @Test
     void shouldFailGetProductByInvalidId() {
         when(productRepository.findById(1L)).thenReturn(Optional.empty());
@@ -85,6 +182,8 @@ class ProductServiceTest {
                 () -> productService.getProductById(1L));
 
         assertEquals("pdm-1", exception.getReason());
+        assertEquals(ApiError.PRODUCT_NOT_FOUND, ((ApiException) exception).getError());
+        assertEquals(0, exception.getStackTrace().length);
     }
 
     // ---------------- UPDATE ----------------
@@ -111,6 +210,32 @@ class ProductServiceTest {
         assertEquals("pdm-1", exception.getReason());
     }
 
+    // ---------------- STOCK ----------------
+    @Test
+    void shouldAdjustStockUnderRowLock() {
+        when(productRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product)).thenReturn(product);
+        long version = catalogVersion.current();
+
+        ProductResponse response = productService.adjustStock(1L, -3);
+
+        assertEquals(2, response.quantity());
+        verify(productJsonCache).evict(1L);
+        assertTrue(catalogVersion.current() > version);
+    }
+
+    @Test
+    void shouldRejectStockBelowZero() {
+        when(productRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(product));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> productService.adjustStock(1L, -6));
+
+        assertEquals("pdm-3", exception.getReason());
+        assertEquals(5, product.getQuantity());
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
+    }
+
     // ---------------- DELETE ----------------
     @Test
     void shouldDeleteProductSuccessfully() {
@@ -141,4 +266,219 @@ class ProductServiceTest {
         assertEquals(1, list.size());
         assertEquals("Test Product", list.get(0).name());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetProductPageWithoutCounting() {
+        PageRequest pageable = PageRequest.of(0, 1);
+        when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(product), pageable, true));
+
+        PageResponse<ProductResponse> page = productService.getProductPage(pageable, false);
+
+        assertEquals(1, page.content().size());
+        assertTrue(page.hasNext());
+        assertNull(page.totalElements());
+        verify(productRepository, never()).count();
+    }
+
+    @Test
+    void shouldServeTotalFromCountCacheUntilProductsChange() {
+        PageRequest pageable = PageRequest.of(0, 1);
+        when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(product), pageable, true));
+        when(productRepository.count()).thenReturn(7L, 8L);
+
+        assertEquals(7L, productService.getProductPage(pageable, true).totalElements());
+        assertEquals(7L, productService.getProductPage(pageable, true).totalElements());
+
+        when(productRepository.existsByName("Test Product")).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+        productService.createProduct(new ProductRequest("Test Product", "Desc", new BigDecimal("10.0"), 5));
+
+        assertEquals(8L, productService.getProductPage(pageable, true).totalElements());
+        verify(productRepository, times(2)).count();
+    }
+
+    @Test
+    void shouldServeRepeatedPageBytesUntilCatalogChanges() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 1);
+        when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(product), pageable, true));
+
+        CachedPage first = productService.getCachedProductPage(pageable, false);
+        CachedPage second = productService.getCachedProductPage(PageRequest.of(0, 1), false);
+
+        assertSame(first, second);
+        assertTrue(new String(first.json(), StandardCharsets.UTF_8).contains("\"name\":\"Test Product\""));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzippedJson()))) {
+            assertArrayEquals(first.json(), gzip.readAllBytes());
+        }
+        verify(productRepository, times(1)).findAllBy(pageable);
+
+        when(productRepository.existsById(1L)).thenReturn(true);
+        productService.deleteProduct(1L);
+
+        assertNotSame(first, productService.getCachedProductPage(pageable, false));
+        verify(productRepository, times(2)).findAllBy(pageable);
+    }
+
+    @Test
+    void shouldNotShareOrCachePageLoadedBeforeCatalogChange() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findAllBy(pageable))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new SliceImpl<>(List.of(product), pageable, false);
+                })
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        CompletableFuture<CachedPage> before = CompletableFuture.supplyAsync(
+                () -> productService.getCachedProductPage(pageable, false));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        catalogVersion.bump(); // a delete commits while the old page is being read
+        CachedPage after = productService.getCachedProductPage(pageable, false);
+        release.countDown();
+        before.get(5, TimeUnit.SECONDS);
+
+        assertFalse(new String(after.json(), StandardCharsets.UTF_8).contains("Test Product"));
+        assertSame(after, productService.getCachedProductPage(pageable, false));
+        verify(productRepository, times(2)).findAllBy(pageable);
+    }
+
+    // ---------------- BATCH GET ----------------
+    @Test
+    void shouldBatchGetFromCacheAndOneQueryInRequestOrder() {
+        Product other = Product.builder().id(2L).name("Other").price(new BigDecimal("3.0")).quantity(1).build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(other));
+        productService.getProductById(1L);
+
+        List<ProductBatchItem> items = productService.getProductsByIds(List.of(3L, 1L, 2L, 1L));
+
+        assertEquals(List.of(3L, 1L, 2L, 1L), items.stream().map(ProductBatchItem::id).toList());
+        assertFalse(items.get(0).found());
+        assertNull(items.get(0).product());
+        assertEquals("Test Product", items.get(1).product().name());
+        assertEquals("Other", items.get(2).product().name());
+        verify(productRepository, times(1)).findAllById(List.of(3L, 2L));
+    }
+
+    @Test
+    void shouldSkipQueryWhenAllBatchIdsAreCached() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        productService.getProductById(1L);
+
+        List<ProductBatchItem> items = productService.getProductsByIds(List.of(1L));
+
+        assertTrue(items.get(0).found());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    // ---------------- COALESCING ----------------
+    @Test
+    void shouldShareOneLoadBetweenConcurrentRequestsForSameId() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(product);
+        });
+
+        CompletableFuture<ProductResponse> leader = CompletableFuture.supplyAsync(() -> productService.getProductById(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ProductResponse> follower = CompletableFuture.supplyAsync(() -> productService.getProductById(1L));
+        awaitCoalescedRequest();
+        release.countDown();
+
+        assertEquals("Test Product", leader.get(5, TimeUnit.SECONDS).name());
+        assertEquals("Test Product", follower.get(5, TimeUnit.SECONDS).name());
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldShareNotFoundFailureWithCoalescedRequests() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        CompletableFuture<ProductResponse> leader = CompletableFuture.supplyAsync(() -> productService.getProductById(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ProductResponse> follower = CompletableFuture.supplyAsync(() -> productService.getProductById(1L));
+        awaitCoalescedRequest();
+        release.countDown();
+
+        Exception exception = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertEquals("pdm-1", ((ResponseStatusException) exception.getCause()).getReason());
+        Exception leaderException = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertNotSame(leaderException.getCause(), exception.getCause());
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    /**
+     * Waits until a request has joined a load in progress, failing after 5 seconds
+     */
+    private void awaitCoalescedRequest() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("request.coalescing", "result", "coalesced").count() < 1) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("No request joined the load in progress within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // ---------------- VERSIONS ----------------
+    @Test
+    void shouldReadVersionColumnOnlyOnceAndEvictOnUpdate() {
+        LocalDateTime version = LocalDateTime.of(2025, 1, 19, 10, 0);
+        when(productRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(version));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+
+        assertEquals(Optional.of(version), productService.getProductVersion(1L));
+        assertEquals(Optional.of(version), productService.getProductVersion(1L));
+        verify(productRepository, times(1)).findUpdatedAtById(1L);
+
+        productService.updateProduct(1L, new ProductRequest("Updated", "New Desc", new BigDecimal("20.0"), 10));
+        productService.getProductVersion(1L);
+        verify(productRepository, times(2)).findUpdatedAtById(1L);
+    }
+
+    @Test
+    void shouldNotCacheVersionReadBeforeConcurrentUpdate() {
+        LocalDateTime version = LocalDateTime.of(2025, 1, 19, 10, 0);
+        when(productRepository.findUpdatedAtById(1L)).thenAnswer(invocation -> {
+            productVersionCache.evict(1L); // an update commits while the old version is being read
+            return Optional.of(version);
+        });
+
+        productService.getProductVersion(1L);
+
+        assertTrue(productVersionCache.get(1L).isEmpty());
+    }
+
+    @Test
+    void shouldTakeVersionFromLoadedProduct() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        productService.getProductById(1L);
+
+        assertEquals(Optional.of(product.getUpdatedAt()), productService.getProductVersion(1L));
+        verify(productRepository, never()).findUpdatedAtById(1L);
+    }
+
+    @Test
+    void shouldBumpCatalogVersionOnWrites() {
+        when(productRepository.existsById(1L)).thenReturn(true);
+        long before = productService.getCatalogVersion();
+
+        productService.deleteProduct(1L);
+
+        assertTrue(productService.getCatalogVersion() > before);
+    }
+}
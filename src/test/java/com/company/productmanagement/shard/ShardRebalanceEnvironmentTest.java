@@ -0,0 +1,49 @@
+package com.company.productmanagement.shard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ShardRebalanceEnvironment}
+ * A rebalance run must come up without the servers, however the application is configured
+ */
+class ShardRebalanceEnvironmentTest {
+
+    private final ShardRebalanceEnvironment postProcessor = new ShardRebalanceEnvironment();
+
+    @Test
+    void shouldTurnServersOffForRebalance() {
+        StandardEnvironment environment = environment(Map.of(
+                "sharding.enabled", "true",
+                "sharding.rebalance", "true",
+                "server.port", "8080",
+                "grpc.enabled", "true"));
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("-1", environment.getProperty("server.port"));
+        assertEquals("-1", environment.getProperty("management.server.port"));
+        assertEquals("false", environment.getProperty("grpc.enabled"));
+    }
+
+    @Test
+    void shouldLeaveRegularStartupsAlone() {
+        StandardEnvironment environment = environment(Map.of("sharding.enabled", "true"));
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertFalse(environment.getPropertySources().contains(ShardRebalanceEnvironment.PROPERTY_SOURCE));
+    }
+
+    private static StandardEnvironment environment(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return environment;
+    }
+}
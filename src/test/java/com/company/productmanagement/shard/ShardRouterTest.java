@@ -0,0 +1,72 @@
+package com.company.productmanagement.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ShardRouter}
+ * Ids a shard's identity column generates must always map back to that shard
+ */
+class ShardRouterTest {
+
+    @Test
+    void moduloShouldSpreadConsecutiveIds() {
+        ShardRouter router = new ShardRouter(3, ShardStrategy.MODULO, 10);
+
+        assertArrayEquals(new int[] {0, 1, 2, 0, 1, 2},
+                LongStream.rangeClosed(1, 6).mapToInt(router::shardOf).toArray());
+    }
+
+    @Test
+    void rangeShouldKeepIdsTogetherAndLeaveLastShardOpen() {
+        ShardRouter router = new ShardRouter(3, ShardStrategy.RANGE, 10);
+
+        assertEquals(0, router.shardOf(1));
+        assertEquals(0, router.shardOf(10));
+        assertEquals(1, router.shardOf(11));
+        assertEquals(2, router.shardOf(21));
+        assertEquals(2, router.shardOf(1_000));
+    }
+
+    @Test
+    void moduloIdentityShouldOnlyGenerateIdsOfItsShard() {
+        ShardRouter router = new ShardRouter(4, ShardStrategy.MODULO, 10);
+
+        for (int shard = 0; shard < 4; shard++) {
+            for (long maxId : new long[] {0, 1, 7, 12, 13}) {
+                long start = router.identityStart(shard, maxId);
+                assertTrue(start > maxId);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(shard, router.shardOf(start + (long) i * router.identityIncrement()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void rangeIdentityShouldStartAtItsRangeOrPastItsLargestId() {
+        ShardRouter router = new ShardRouter(3, ShardStrategy.RANGE, 10);
+
+        assertEquals(1, router.identityStart(0, 0));
+        assertEquals(11, router.identityStart(1, 0));
+        assertEquals(15, router.identityStart(1, 14));
+        assertEquals(1, router.identityIncrement());
+    }
+
+    @Test
+    void nextInsertShardShouldTakeShardsInTurn() {
+        ShardRouter router = new ShardRouter(2, ShardStrategy.MODULO, 10);
+
+        assertEquals(0, router.nextInsertShard());
+        assertEquals(1, router.nextInsertShard());
+        assertEquals(0, router.nextInsertShard());
+    }
+
+    @Test
+    void shouldRejectMissingShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0, ShardStrategy.MODULO, 10));
+    }
+}
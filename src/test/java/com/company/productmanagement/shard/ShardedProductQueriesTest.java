@@ -0,0 +1,65 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ShardedProductQueries}
+ * Shards must cut their rows in the same order the merge sorts them
+ */
+class ShardedProductQueriesTest {
+
+    private final ShardOperations shardOperations = mock(ShardOperations.class);
+    private final ShardedProductQueries queries = new ShardedProductQueries(
+            new ShardRouter(2, ShardStrategy.MODULO, 10), shardOperations, 500, 10_000);
+
+    @AfterEach
+    void shutdown() {
+        queries.destroy();
+    }
+
+    @Test
+    void shouldBreakTiesByIdOnEveryShard() {
+        when(shardOperations.findSlice(anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<Product>(List.of()));
+
+        queries.findSlice(PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "price")));
+
+        ArgumentCaptor<Pageable> sent = ArgumentCaptor.forClass(Pageable.class);
+        verify(shardOperations, times(2)).findSlice(anyInt(), sent.capture());
+        for (Pageable top : sent.getAllValues()) {
+            assertEquals(Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id")), top.getSort());
+            assertEquals(6, top.getPageSize());
+        }
+    }
+
+    @Test
+    void shouldMergeTiedRowsInIdOrder() {
+        when(shardOperations.findSlice(eq(0), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(product(1), product(3))));
+        when(shardOperations.findSlice(eq(1), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(product(2), product(4))));
+
+        List<Product> page = queries.findSlice(PageRequest.of(0, 3, Sort.by("price"))).getContent();
+
+        assertEquals(List.of(1L, 2L, 3L), page.stream().map(Product::getId).toList());
+    }
+
+    private static Product product(long id) {
+        return Product.builder().id(id).name("Product " + id).price(BigDecimal.ONE).quantity(1).build();
+    }
+}
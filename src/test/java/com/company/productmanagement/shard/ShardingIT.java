@@ -0,0 +1,228 @@
+package com.company.productmanagement.shard;
+
+import com.company.productmanagement.dto.product.ProductBatchItem;
+import com.company.productmanagement.dto.product.ProductRequest;
+import com.company.productmanagement.dto.product.ProductResponse;
+import com.company.productmanagement.exception.ApiError;
+import com.company.productmanagement.exception.ApiException;
+import com.company.productmanagement.repository.ProductRepository;
+import com.company.productmanagement.service.ProductService;
+import com.company.productmanagement.workload.WorkloadClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for product sharding over three in-memory H2 databases
+ * Placement is checked by querying each shard directly
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "sharding.enabled=true",
+        "sharding.urls[0]=jdbc:h2:mem:sharding-it-0;DB_CLOSE_DELAY=-1",
+        "sharding.urls[1]=jdbc:h2:mem:sharding-it-1;DB_CLOSE_DELAY=-1",
+        "sharding.urls[2]=jdbc:h2:mem:sharding-it-2;DB_CLOSE_DELAY=-1",
+        "sharding.scan-batch-size=2",
+        "sharding.rebalance-batch-size=2",
+        "sharding.max-page-depth=20"
+})
+class ShardingIT {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSpreadProductsOverShardsByTheirIds() {
+        List<ProductResponse> created = createProducts(6);
+
+        for (int shard = 0; shard < 3; shard++) {
+            List<Long> ids = shard(shard).queryForList("select id from products", Long.class);
+            assertEquals(2, ids.size());
+            for (Long id : ids) {
+                assertEquals(shard, shardRouter.shardOf(id));
+            }
+        }
+        assertEquals(6, productRepository.count());
+        assertEquals(6, created.stream().map(ProductResponse::id).distinct().count());
+    }
+
+    @Test
+    void shouldReadAndWriteProductsOnTheirShard() {
+        List<ProductResponse> created = createProducts(3);
+        ProductResponse product = created.get(2);
+
+        assertEquals(product.name(), productService.getProductById(product.id()).name());
+        productService.updateProduct(product.id(),
+                new ProductRequest("Renamed", "Description", new BigDecimal("9.99"), 4));
+        assertEquals(7, productService.adjustStock(product.id(), 3).quantity());
+
+        int shard = shardRouter.shardOf(product.id());
+        assertEquals("Renamed", shard(shard).queryForObject(
+                "select name from products where id = ?", String.class, product.id()));
+        assertEquals(7, shard(shard).queryForObject(
+                "select quantity from products where id = ?", Integer.class, product.id()));
+
+        productService.deleteProduct(product.id());
+        assertEquals(0, shard(shard).queryForObject("select count(*) from products", Integer.class));
+        assertEquals(2, productRepository.count());
+    }
+
+    @Test
+    void shouldMergePagesFromAllShards() {
+        List<Long> ids = createProducts(7).stream().map(ProductResponse::id).sorted().toList();
+
+        Page<ProductResponse> byId = productService.getAllProducts(PageRequest.of(1, 3));
+        assertEquals(7, byId.getTotalElements());
+        assertEquals(ids.subList(3, 6), byId.getContent().stream().map(ProductResponse::id).toList());
+
+        Page<ProductResponse> byQuantity = productService.getAllProducts(
+                PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "quantity")));
+        assertEquals(List.of("Product 6", "Product 5", "Product 4", "Product 3"),
+                byQuantity.getContent().stream().map(ProductResponse::name).toList());
+
+        assertFalse(productService.getProductPage(PageRequest.of(2, 3), false).hasNext());
+        assertTrue(productService.getProductPage(PageRequest.of(1, 3), false).hasNext());
+    }
+
+    @Test
+    void shouldPageThroughTiedPricesWithoutSkippingOrRepeating() {
+        List<Long> ids = new ArrayList<>();
+        // six products tie on price across all three shards, and a page boundary falls inside the tie
+        for (long id = 9; id >= 1; id--) {
+            shard(shardRouter.shardOf(id)).update("insert into products (id, name, description, price, quantity, created_at, updated_at)"
+                    + " values (?, ?, 'Description', ?, 1, ?, ?)", id, "Tied " + id, id <= 6 ? 1.00 : 2.00,
+                    LocalDateTime.now(), LocalDateTime.now());
+            ids.add(0, id);
+        }
+
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            productService.getAllProducts(PageRequest.of(page, 3, Sort.by("price"))).getContent()
+                    .forEach(product -> paged.add(product.id()));
+        }
+
+        assertEquals(ids, paged);
+    }
+
+    @Test
+    void shouldKeepNamesUniqueAcrossShards() {
+        List<ProductResponse> created = createProducts(2);
+        ProductResponse first = created.get(0);
+        ProductResponse second = created.get(1);
+        assertNotEquals(shardRouter.shardOf(first.id()), shardRouter.shardOf(second.id()));
+
+        ApiException taken = assertThrows(ApiException.class, () -> productService.updateProduct(second.id(),
+                new ProductRequest(first.name(), "Description", new BigDecimal("1.00"), 1)));
+        assertEquals(ApiError.PRODUCT_NAME_TAKEN, taken.getError());
+
+        productService.updateProduct(first.id(), new ProductRequest("Renamed", "Description", new BigDecimal("1.00"), 1));
+        productService.updateProduct(second.id(), new ProductRequest(first.name(), "Description", new BigDecimal("1.00"), 1));
+        assertEquals(first.name(), productService.getProductById(second.id()).name());
+        productService.deleteProduct(first.id());
+        productService.createProduct(new ProductRequest("Renamed", "Description", new BigDecimal("1.00"), 1));
+    }
+
+    @Test
+    void shouldRejectTextSortsAndDeepPages() {
+        createProducts(3);
+
+        ApiException textSort = assertThrows(ApiException.class,
+                () -> productService.getAllProducts(PageRequest.of(0, 4, Sort.by("name"))));
+        ApiException deepPage = assertThrows(ApiException.class,
+                () -> productService.getProductPage(PageRequest.of(4, 5), false));
+
+        assertEquals(ApiError.SORT_NOT_SHARDABLE, textSort.getError());
+        assertEquals(ApiError.PAGE_TOO_DEEP, deepPage.getError());
+    }
+
+    @Test
+    void shouldExportAllShardsInIdOrder() {
+        List<Long> ids = createProducts(7).stream().map(ProductResponse::id).sorted().toList();
+
+        List<Long> exported = new ArrayList<>();
+        productService.streamAllProducts(product -> exported.add(product.id()));
+
+        assertEquals(ids, exported);
+    }
+
+    @Test
+    void shouldGetProductsOfSeveralShardsInOneBatch() {
+        List<ProductResponse> created = createProducts(4);
+
+        List<ProductBatchItem> items = productService.getProductsByIds(
+                List.of(created.get(3).id(), 999_999L, created.get(0).id()));
+
+        assertEquals(created.get(3).name(), items.get(0).product().name());
+        assertFalse(items.get(1).found());
+        assertEquals(created.get(0).name(), items.get(2).product().name());
+    }
+
+    @Test
+    void shouldRejectNamesTakenOnAnotherShard() {
+        createProducts(1);
+
+        assertThrows(ApiException.class, () -> productService.createProduct(
+                new ProductRequest("Product 0", "Description", new BigDecimal("1.00"), 1)));
+    }
+
+    @Test
+    void shouldMoveMisplacedProductsToTheirShard() {
+        LocalDateTime now = LocalDateTime.now();
+        // ids 2 and 5 belong to shard 1 and 3 to shard 2, as if the catalog had grown from one shard
+        for (long id : new long[] {2, 3, 5}) {
+            shard(0).update("insert into products (id, name, description, price, quantity, created_at, updated_at)"
+                    + " values (?, ?, 'Description', 1.00, 1, ?, ?)", id, "Moved " + id, now, now);
+        }
+
+        assertEquals(3, shardRebalancer.rebalance());
+
+        assertEquals(0, shard(0).queryForObject("select count(*) from products", Integer.class));
+        assertEquals(List.of(2L, 5L), shard(1).queryForList("select id from products order by id", Long.class));
+        assertEquals(List.of(3L), shard(2).queryForList("select id from products", Long.class));
+        ProductResponse created = productService.createProduct(
+                new ProductRequest("After Rebalance", "Description", new BigDecimal("1.00"), 1));
+        assertFalse(List.of(2L, 3L, 5L).contains(created.id()));
+    }
+
+    private List<ProductResponse> createProducts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> productService.createProduct(
+                        new ProductRequest("Product " + i, "Description", new BigDecimal("1.00"), i)))
+                .toList();
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(shardDataSources.shard(shard).pool(WorkloadClass.READ));
+    }
+}
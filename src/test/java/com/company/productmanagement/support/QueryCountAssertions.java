@@ -0,0 +1,63 @@
+package com.company.productmanagement.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query budgets for integration tests, backed by the datasource proxy.
+ * Counts the JDBC statements the calling thread executes while the given action runs,
+ * e.g. {@code assertMaxQueries(1, () -> mockMvc.perform(get("/api/products/1")))}.
+ * MockMvc requests run on the test thread, so every statement of the request is counted;
+ * statements Hibernate defers to the end of a test transaction are not.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Runs the action and fails if it executed more than {@code maxQueries} statements
+     */
+    public static void assertMaxQueries(int maxQueries, Action action) throws Exception {
+        QueryCount count = countQueries(action);
+        assertTrue(count.getTotal() <= maxQueries, () -> "expected at most " + maxQueries
+                + " statements but " + describe(count) + " were executed");
+    }
+
+    /**
+     * Runs the action and fails if it executed more than {@code maxSelects} SELECT statements
+     */
+    public static void assertMaxSelects(int maxSelects, Action action) throws Exception {
+        QueryCount count = countQueries(action);
+        assertTrue(count.getSelect() <= maxSelects, () -> "expected at most " + maxSelects
+                + " select statements but " + describe(count) + " were executed");
+    }
+
+    /**
+     * Runs the action and returns the statements it executed
+     */
+    public static QueryCount countQueries(Action action) throws Exception {
+        QueryCountHolder.clear();
+        try {
+            action.execute();
+            return QueryCountHolder.getGrandTotal();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    /**
+     * Code under measurement, typically a MockMvc request
+     */
+    @FunctionalInterface
+    public interface Action {
+        void execute() throws Exception;
+    }
+
+    private static String describe(QueryCount count) {
+        return count.getTotal() + " (" + count.getSelect() + " select, " + count.getInsert() + " insert, "
+                + count.getUpdate() + " update, " + count.getDelete() + " delete, " + count.getOther() + " other)";
+    }
+}
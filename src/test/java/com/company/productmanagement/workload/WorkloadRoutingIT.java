@@ -0,0 +1,118 @@
+package com.company.productmanagement.workload;
+
+import com.company.productmanagement.dto.auth.RegisterRequest;
+import com.company.productmanagement.dto.product.ProductRequest;
+import com.company.productmanagement.service.AuthService;
+import com.company.productmanagement.service.ProductService;
+import com.company.productmanagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the per-workload connection pools
+ * Reads Hikari's acquire counters to see which pool served a call
+ */
+@SpringBootTest(properties = {
+        "datasource.pools.export.maximum-pool-size=1",
+        "datasource.pools.export.connection-timeout=250ms"
+})
+class WorkloadRoutingIT {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldServeEachWorkloadFromItsOwnPool() {
+        long reads = acquisitions(WorkloadClass.READ);
+        productService.getProductPage(PageRequest.of(0, 10), true);
+        assertTrue(acquisitions(WorkloadClass.READ) > reads);
+
+        long writes = acquisitions(WorkloadClass.WRITE);
+        productService.createProduct(new ProductRequest("Pooled Product", "Description", new BigDecimal("5.00"), 3));
+        assertTrue(acquisitions(WorkloadClass.WRITE) > writes);
+
+        long auth = acquisitions(WorkloadClass.AUTH);
+        authService.register(new RegisterRequest("pooled-user", "password123", "pooled@example.com"));
+        assertTrue(acquisitions(WorkloadClass.AUTH) > auth);
+
+        long exports = acquisitions(WorkloadClass.EXPORT);
+        productService.streamAllProducts(product -> { });
+        assertTrue(acquisitions(WorkloadClass.EXPORT) > exports);
+    }
+
+    @Test
+    void shouldKeepAuthWorkingWhileExportPoolIsExhausted() throws Exception {
+        List<Connection> held = new ArrayList<>();
+        WorkloadClass previous = WorkloadContext.set(WorkloadClass.EXPORT);
+        try {
+            held.add(dataSource.getConnection());
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+        try {
+            assertEquals(1, routing().pool(WorkloadClass.EXPORT).getHikariPoolMXBean().getActiveConnections());
+            assertThrows(RuntimeException.class, () -> userService.loadUserByUsername("nobody-here"));
+            productService.getProductPage(PageRequest.of(0, 10), false);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    void shouldServeMoreExportsThanExportConnections() {
+        productService.createProduct(new ProductRequest("Exported Product", "Description", new BigDecimal("5.00"), 3));
+        List<Long> inner = new ArrayList<>();
+
+        // a second export runs while the first one's consumer is busy, with a single export connection
+        productService.streamAllProducts(outer -> {
+            if (inner.isEmpty()) {
+                CompletableFuture.runAsync(() -> productService.streamAllProducts(product -> inner.add(product.id())))
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .join();
+            }
+        });
+
+        assertFalse(inner.isEmpty());
+    }
+
+    private long acquisitions(WorkloadClass workload) {
+        // pools start, and register their meters, on first use
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "workload-" + workload.key())
+                .timer();
+        return acquire != null ? acquire.count() : 0;
+    }
+
+    private WorkloadRoutingDataSource routing() throws Exception {
+        return dataSource.unwrap(WorkloadRoutingDataSource.class);
+    }
+}